@@ -9,6 +9,8 @@ public class ArrayType extends JavaType {
     private JavaType type;
     private int dimensions;
 
+    private String string;
+
     private ArrayType(JavaType type, int dimensions) {
         if (dimensions <= 0) {
             throw new IllegalArgumentException("Array dimension <= 0");
@@ -59,16 +61,6 @@ public class ArrayType extends JavaType {
         }
     }
 
-    @Override
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod) {
-        return this.type.resolveVariables(filledType, paramedType, filledMethod, paramedMethod).array(this.dimensions);
-    }
-
-    @Override
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType) {
-        return this.type.resolveVariables(filledType, paramedType).array(this.dimensions);
-    }
-
     @Override
     public boolean isAssignableTo(JavaType other) {
         return other instanceof ArrayType && this.dimensions == ((ArrayType) other).dimensions && this.type.isAssignableTo(((ArrayType) other).type);
@@ -91,12 +83,17 @@ public class ArrayType extends JavaType {
 
     @Override
     public String toString() {
-        StringBuilder str = new StringBuilder();
-        str.append(this.type);
-        for (int i = 0; i < this.dimensions; i++) {
-            str.append("[]");
+        String str = this.string;
+        if (str == null) {
+            str = TypeRenderer.render(this, new StringBuilder()).toString();
+            this.string = str;
         }
-        return str.toString();
+        return str;
+    }
+
+    @Override
+    String cachedString() {
+        return this.string;
     }
 
     @Override
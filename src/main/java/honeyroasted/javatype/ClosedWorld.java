@@ -0,0 +1,212 @@
+package honeyroasted.javatype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class ClosedWorld {
+    private Map<Class<?>, Integer> ids;
+    private Class<?>[] classes;
+
+    private int[] pre;
+    private int[] post;
+    private long[][] interfaces;
+    private int[] interfaceBit;
+
+    private ClosedWorld(Set<Class<?>> universe) {
+        this.ids = new IdentityHashMap<>(universe.size() * 2);
+        this.classes = universe.toArray(new Class<?>[0]);
+        for (int i = 0; i < this.classes.length; i++) {
+            this.ids.put(this.classes[i], i);
+        }
+
+        this.pre = new int[this.classes.length];
+        this.post = new int[this.classes.length];
+        this.interfaceBit = new int[this.classes.length];
+        this.interfaces = new long[this.classes.length][];
+
+        int interfaceCount = 0;
+        for (int i = 0; i < this.classes.length; i++) {
+            this.interfaceBit[i] = this.classes[i].isInterface() ? interfaceCount++ : -1;
+        }
+
+        numberClasses();
+        numberInterfaces((interfaceCount + 63) >>> 6);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static ClosedWorld of(Collection<? extends Class<?>> classes) {
+        return builder().addAll(classes).build();
+    }
+
+    public boolean contains(Class<?> cls) {
+        return this.ids.containsKey(cls);
+    }
+
+    public boolean containsAny(Collection<? extends Class<?>> classes) {
+        for (Class<?> cls : classes) {
+            if (this.ids.containsKey(cls)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public ClosedWorld rebuild() {
+        return of(Arrays.asList(this.classes));
+    }
+
+    public int size() {
+        return this.classes.length;
+    }
+
+    public int idOf(Class<?> cls) {
+        Integer id = this.ids.get(cls);
+        return id == null ? -1 : id;
+    }
+
+    public Class<?> classOf(int id) {
+        return this.classes[id];
+    }
+
+    public boolean isSubclass(Class<?> sub, Class<?> parent) {
+        if (sub == parent) {
+            return true;
+        }
+
+        Integer subId = this.ids.get(sub);
+        Integer parentId = this.ids.get(parent);
+        if (subId == null || parentId == null) {
+            return parent.isAssignableFrom(sub);
+        }
+        return isSubclass(subId, parentId);
+    }
+
+    public boolean isSubclass(int sub, int parent) {
+        int bit = this.interfaceBit[parent];
+        if (bit != -1) {
+            return (this.interfaces[sub][bit >>> 6] & (1L << bit)) != 0;
+        } else if (this.interfaceBit[sub] != -1) {
+            return this.classes[parent] == Object.class;
+        }
+        return this.pre[parent] <= this.pre[sub] && this.post[sub] <= this.post[parent];
+    }
+
+    private void numberClasses() {
+        List<List<Integer>> children = new ArrayList<>(this.classes.length);
+        List<Integer> roots = new ArrayList<>();
+        for (int i = 0; i < this.classes.length; i++) {
+            children.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < this.classes.length; i++) {
+            if (this.interfaceBit[i] == -1) {
+                Class<?> superclass = this.classes[i].getSuperclass();
+                if (superclass == null) {
+                    roots.add(i);
+                } else {
+                    children.get(this.ids.get(superclass)).add(i);
+                }
+            }
+        }
+
+        int counter = 0;
+        int[] stack = new int[this.classes.length];
+        int[] next = new int[this.classes.length];
+        for (int root : roots) {
+            int depth = 0;
+            stack[depth] = root;
+            next[depth] = 0;
+            this.pre[root] = counter++;
+
+            while (depth >= 0) {
+                int node = stack[depth];
+                List<Integer> nodeChildren = children.get(node);
+                if (next[depth] < nodeChildren.size()) {
+                    int child = nodeChildren.get(next[depth]++);
+                    this.pre[child] = counter++;
+                    stack[++depth] = child;
+                    next[depth] = 0;
+                } else {
+                    this.post[node] = counter++;
+                    depth--;
+                }
+            }
+        }
+    }
+
+    private void numberInterfaces(int words) {
+        for (int i = 0; i < this.classes.length; i++) {
+            if (this.interfaces[i] == null) {
+                computeInterfaces(i, words);
+            }
+        }
+    }
+
+    private long[] computeInterfaces(int id, int words) {
+        long[] bits = this.interfaces[id];
+        if (bits != null) {
+            return bits;
+        }
+
+        bits = new long[words];
+        if (this.interfaceBit[id] != -1) {
+            int bit = this.interfaceBit[id];
+            bits[bit >>> 6] |= 1L << bit;
+        }
+
+        Class<?> cls = this.classes[id];
+        if (cls.getSuperclass() != null) {
+            or(bits, computeInterfaces(this.ids.get(cls.getSuperclass()), words));
+        }
+        for (Class<?> face : cls.getInterfaces()) {
+            or(bits, computeInterfaces(this.ids.get(face), words));
+        }
+
+        this.interfaces[id] = bits;
+        return bits;
+    }
+
+    private static void or(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    public static final class Builder {
+        private Set<Class<?>> classes = new LinkedHashSet<>();
+
+        public Builder add(Class<?>... classes) {
+            Collections.addAll(this.classes, classes);
+            return this;
+        }
+
+        public Builder addAll(Collection<? extends Class<?>> classes) {
+            this.classes.addAll(classes);
+            return this;
+        }
+
+        public ClosedWorld build() {
+            Set<Class<?>> universe = new LinkedHashSet<>();
+            universe.add(Object.class);
+            for (Class<?> cls : this.classes) {
+                if (cls.isPrimitive() || cls.isArray()) {
+                    throw new IllegalArgumentException("Unsupported closed world type: " + cls.getName());
+                }
+                universe.addAll(JavaTypes.getSupertypes(cls));
+            }
+            return new ClosedWorld(universe);
+        }
+
+    }
+
+}
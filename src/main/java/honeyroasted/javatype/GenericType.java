@@ -6,11 +6,21 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class GenericType extends JavaType {
+    private static final ClassValue<GenericType> RAW = new ClassValue<GenericType>() {
+        @Override
+        protected GenericType computeValue(Class<?> type) {
+            return new GenericType(checkType(type), TypeList.empty());
+        }
+    };
+
     private Class<?> type;
     private List<JavaType> generics;
 
+    private String string;
+
     private GenericType(Class<?> type, List<JavaType> generics) {
         this.type = type;
         this.generics = generics;
@@ -21,7 +31,34 @@ public class GenericType extends JavaType {
     }
 
     public static GenericType of(Class<?> cls) {
-        return builder(cls).build();
+        return RAW.get(cls);
+    }
+
+    public static GenericType of(Class<?> cls, JavaType generic) {
+        return new GenericType(checkType(cls), TypeList.of(generic));
+    }
+
+    public static GenericType of(Class<?> cls, JavaType first, JavaType second) {
+        return new GenericType(checkType(cls), TypeList.of(first, second));
+    }
+
+    public static GenericType of(Class<?> cls, JavaType... generics) {
+        return generics.length == 0 ? RAW.get(cls) : new GenericType(checkType(cls), TypeList.copyOf(generics));
+    }
+
+    public static GenericType of(Class<?> cls, List<JavaType> generics) {
+        return generics.isEmpty() ? RAW.get(cls) : new GenericType(checkType(cls), TypeList.copyOf(generics));
+    }
+
+    static GenericType wrap(Class<?> cls, JavaType[] generics) {
+        return generics.length == 0 ? RAW.get(cls) : new GenericType(checkType(cls), TypeList.wrap(generics));
+    }
+
+    private static Class<?> checkType(Class<?> type) {
+        if (type.isArray()) {
+            throw new IllegalArgumentException("Array type not allowed");
+        }
+        return type;
     }
 
     public List<JavaType> getGenerics() {
@@ -38,36 +75,6 @@ public class GenericType extends JavaType {
         }
     }
 
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod) {
-        GenericType.Builder builder = GenericType.builder(this.type);
-        for (JavaType generic : this.getGenerics()) {
-            if (generic instanceof VariableType) {
-                String name = generic.getName();
-                builder.generic(filledMethod.resolveVar(name, paramedMethod).orElse(
-                        filledType.resolveVar(name, paramedType).orElse(generic.resolveVariables(filledType, paramedType, filledMethod, paramedMethod))));
-            } else {
-                builder.generic(generic.resolveVariables(filledType, paramedType, filledMethod, paramedMethod));
-            }
-        }
-
-        return builder.build();
-    }
-
-    @Override
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType) {
-        GenericType.Builder builder = GenericType.builder(this.type);
-        for (JavaType generic : this.getGenerics()) {
-            if (generic instanceof VariableType) {
-                String name = generic.getName();
-                builder.generic(filledType.resolveVar(name, paramedType).orElse(generic.resolveVariables(filledType, paramedType)));
-            } else {
-                builder.generic(generic.resolveVariables(filledType, paramedType));
-            }
-        }
-
-        return builder.build();
-    }
-
     public Optional<JavaType> resolveVar(String var, GenericType parameterized) {
         int index = -1;
         for (int i = 0; i < parameterized.genericCount(); i++) {
@@ -88,21 +95,15 @@ public class GenericType extends JavaType {
     @Override
     public boolean isAssignableTo(JavaType other) {
         if (other instanceof GenericType) {
-            GenericType g = (GenericType) other;
-            if (!g.type.isAssignableFrom(this.type)) {
-                return false;
-            }
-
-            int size = Math.max(g.genericCount(), this.genericCount());
-            for (int i = 0; i < size; i++) {
-                if (!this.getGeneric(i).isAssignableTo(g.getGeneric(i), 0)) {
-                    return false;
+            return isSubtypeOf((GenericType) other, 0);
+        } else if (other instanceof VariableType) {
+            List<JavaType> lower = ((VariableType) other).getLower();
+            for (int i = 0; i < lower.size(); i++) {
+                if (this.isAssignableTo(lower.get(i))) {
+                    return true;
                 }
             }
-            return true;
-        } else if (other instanceof VariableType) {
-            VariableType v = (VariableType) other;
-            return !v.getLower().isEmpty() && v.getLower().stream().anyMatch(this::isAssignableTo);
+            return false;
         }
         return false;
     }
@@ -128,12 +129,40 @@ public class GenericType extends JavaType {
             return true;
         } else if (other instanceof VariableType && depth == 0) {
             VariableType v = (VariableType) other;
-            return v.getUpper().stream().allMatch(t -> this.isAssignableTo(t, depth)) &&
-                    (v.getLower().stream().anyMatch(t -> t.isAssignableTo(this, depth)) || v.getLower().isEmpty());
+            List<JavaType> upper = v.getUpper();
+            for (int i = 0; i < upper.size(); i++) {
+                JavaType bound = upper.get(i);
+                if (bound instanceof GenericType ? !this.isSubtypeOf((GenericType) bound, depth + 1) : !this.isAssignableTo(bound, depth + 1)) {
+                    return false;
+                }
+            }
+
+            List<JavaType> lower = v.getLower();
+            for (int i = 0; i < lower.size(); i++) {
+                JavaType bound = lower.get(i);
+                if (bound instanceof GenericType ? ((GenericType) bound).isSubtypeOf(this, depth + 1) : bound.isAssignableTo(this, depth + 1)) {
+                    return true;
+                }
+            }
+            return lower.isEmpty();
         }
         return false;
     }
 
+    private boolean isSubtypeOf(GenericType other, int depth) {
+        if (!JavaTypes.isSubclass(this.type, other.type)) {
+            return false;
+        }
+
+        int size = Math.max(other.genericCount(), this.genericCount());
+        for (int i = 0; i < size; i++) {
+            if (!this.getGeneric(i).isAssignableTo(other.getGeneric(i), depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String getName() {
         return this.type.getName();
@@ -141,21 +170,17 @@ public class GenericType extends JavaType {
 
     @Override
     public String toString() {
-        StringBuilder str = new StringBuilder();
-        str.append(this.type.getName());
-
-        if (!this.generics.isEmpty()) {
-            str.append("<");
-            for (int i = 0; i < this.generics.size(); i++) {
-                str.append(this.getGeneric(i));
-                if (i != this.generics.size() - 1) {
-                    str.append(", ");
-                }
-            }
-            str.append(">");
+        String str = this.string;
+        if (str == null) {
+            str = TypeRenderer.render(this, new StringBuilder()).toString();
+            this.string = str;
         }
+        return str;
+    }
 
-        return str.toString();
+    @Override
+    String cachedString() {
+        return this.string;
     }
 
     @Override
@@ -175,12 +200,12 @@ public class GenericType extends JavaType {
 
     @Override
     public JavaType box() {
-        return GenericType.builder(JavaTypes.box(this.type)).generics(this.generics).build();
+        return GenericType.of(JavaTypes.box(this.type), this.generics);
     }
 
     @Override
     public JavaType unbox() {
-        return GenericType.builder(JavaTypes.unbox(this.type)).generics(this.generics).build();
+        return GenericType.of(JavaTypes.unbox(this.type), this.generics);
     }
 
     public Optional<GenericType> resolveToSupertype(Class<?> parent) {
@@ -191,6 +216,10 @@ public class GenericType extends JavaType {
         return JavaTypes.resolveGenericsToSubtype(sub, this);
     }
 
+    public Stream<GenericType> supertypes() {
+        return JavaTypes.streamSupertypes(this);
+    }
+
     public int genericCount() {
         return this.generics.size();
     }
@@ -214,11 +243,7 @@ public class GenericType extends JavaType {
         private List<JavaType> generics;
 
         public Builder(Class<?> type) {
-            if (type.isArray()) {
-                throw new IllegalArgumentException("Array type not allowed");
-            }
-
-            this.type = type;
+            this.type = checkType(type);
             this.generics = new ArrayList<>();
         }
 
@@ -243,7 +268,7 @@ public class GenericType extends JavaType {
         }
 
         public GenericType build() {
-            return new GenericType(type, Collections.unmodifiableList(new ArrayList<>(this.generics)));
+            return GenericType.of(this.type, this.generics);
         }
 
     }
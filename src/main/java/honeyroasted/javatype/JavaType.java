@@ -1,12 +1,28 @@
 package honeyroasted.javatype;
 
+import honeyroasted.javatype.visitor.TypeTransformer;
+import honeyroasted.javatype.visitor.TypeVisitor;
+import honeyroasted.javatype.visitor.TypeWalker;
+
 import java.util.Optional;
 
 public abstract class JavaType {
 
-    public abstract JavaType resolveVariables(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod);
+    public JavaType resolveVariables(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod) {
+        return TypeWalker.transform(this, new VariableResolver(filledType, paramedType, filledMethod, paramedMethod));
+    }
+
+    public JavaType resolveVariables(GenericType filledType, GenericType paramedType) {
+        return TypeWalker.transform(this, new VariableResolver(filledType, paramedType, null, null));
+    }
 
-    public abstract JavaType resolveVariables(GenericType filledType, GenericType paramedType);
+    public void accept(TypeVisitor visitor) {
+        TypeWalker.walk(this, visitor);
+    }
+
+    public JavaType transform(TypeTransformer transformer) {
+        return TypeWalker.transform(this, transformer);
+    }
 
     public abstract boolean isAssignableTo(JavaType other);
 
@@ -18,6 +34,18 @@ public abstract class JavaType {
 
     public abstract JavaType array(int dimensions);
 
+    public String getDescriptor() {
+        return TypeRenderer.descriptor(this);
+    }
+
+    public String getSignature() {
+        return TypeRenderer.signature(this);
+    }
+
+    String cachedString() {
+        return null;
+    }
+
     public boolean isPrimitive() {
         return getType().isPrimitive();
     }
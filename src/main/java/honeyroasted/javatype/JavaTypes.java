@@ -1,5 +1,8 @@
 package honeyroasted.javatype;
 
+import honeyroasted.javatype.visitor.TypeVisitor;
+import honeyroasted.javatype.warmup.AccessProfile;
+
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
@@ -10,10 +13,18 @@ import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JavaTypes {
     public static final JavaType OBJECT = of(Object.class);
@@ -55,6 +66,140 @@ public class JavaTypes {
         primitivesByName.put("void", void.class);
     }
 
+    private static final ClassValue<GenericType> PARAMETERIZED = new ClassValue<GenericType>() {
+        @Override
+        protected GenericType computeValue(Class<?> type) {
+            trackDependencies(type);
+            TypeVariable<?>[] params = type.getTypeParameters();
+            JavaType[] generics = new JavaType[params.length];
+            for (int i = 0; i < params.length; i++) {
+                generics[i] = of(params[i]);
+            }
+
+            AccessProfile recorder = profile;
+            if (recorder != null) {
+                recorder.recordParameterized(type);
+            }
+            return GenericType.wrap(type, generics);
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, Optional<GenericType>>> SUPERTYPES = new ClassValue<Map<Class<?>, Optional<GenericType>>>() {
+        @Override
+        protected Map<Class<?>, Optional<GenericType>> computeValue(Class<?> type) {
+            trackDependencies(type);
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, Optional<List<Class<?>>>>> HIERARCHIES = new ClassValue<Map<Class<?>, Optional<List<Class<?>>>>>() {
+        @Override
+        protected Map<Class<?>, Optional<List<Class<?>>>> computeValue(Class<?> type) {
+            trackDependencies(type);
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Set<Class<?>>> DEPENDENTS = new ClassValue<Set<Class<?>>>() {
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            return Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+        }
+    };
+
+    private static final ClassValue<Boolean> TRACKED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> sup : getSupertypes(type)) {
+                DEPENDENTS.get(sup).add(type);
+            }
+            return true;
+        }
+    };
+
+    private static final List<Consumer<Set<Class<?>>>> INVALIDATION_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile ClosedWorld closedWorld;
+    private static volatile AccessProfile profile;
+
+    public static void setClosedWorld(ClosedWorld world) {
+        closedWorld = world;
+    }
+
+    public static Optional<ClosedWorld> getClosedWorld() {
+        return Optional.ofNullable(closedWorld);
+    }
+
+    public static void setProfile(AccessProfile recorder) {
+        profile = recorder;
+    }
+
+    public static Optional<AccessProfile> getProfile() {
+        return Optional.ofNullable(profile);
+    }
+
+    public static void trackDependencies(Class<?> cls) {
+        TRACKED.get(cls);
+    }
+
+    public static Set<Class<?>> getDependents(Class<?> cls) {
+        Set<Class<?>> dependents = DEPENDENTS.get(cls);
+        synchronized (dependents) {
+            return new LinkedHashSet<>(dependents);
+        }
+    }
+
+    public static void addInvalidationListener(Consumer<Set<Class<?>>> listener) {
+        INVALIDATION_LISTENERS.add(listener);
+    }
+
+    public static void removeInvalidationListener(Consumer<Set<Class<?>>> listener) {
+        INVALIDATION_LISTENERS.remove(listener);
+    }
+
+    public static Set<Class<?>> invalidate(Class<?> cls) {
+        Set<Class<?>> affected = new LinkedHashSet<>();
+        affected.add(cls);
+        affected.addAll(getDependents(cls));
+
+        for (Class<?> c : affected) {
+            PARAMETERIZED.remove(c);
+            SUPERTYPES.remove(c);
+            HIERARCHIES.remove(c);
+            TRACKED.remove(c);
+        }
+
+        ClosedWorld world = closedWorld;
+        if (world != null && world.containsAny(affected)) {
+            closedWorld = world.rebuild();
+        }
+
+        Set<Class<?>> result = Collections.unmodifiableSet(affected);
+        for (Consumer<Set<Class<?>>> listener : INVALIDATION_LISTENERS) {
+            listener.accept(result);
+        }
+        return result;
+    }
+
+    public static boolean references(JavaType type, Set<Class<?>> classes) {
+        boolean[] found = new boolean[1];
+        type.accept(new TypeVisitor() {
+            @Override
+            public boolean visitGeneric(GenericType generic) {
+                if (classes.contains(generic.getType())) {
+                    found[0] = true;
+                }
+                return !found[0];
+            }
+        });
+        return found[0];
+    }
+
+    public static boolean isSubclass(Class<?> sub, Class<?> parent) {
+        ClosedWorld world = closedWorld;
+        return world == null ? parent.isAssignableFrom(sub) : world.isSubclass(sub, parent);
+    }
+
     public static Class box(Class primitive) {
         return primitive.isPrimitive() ? boxByPrimitives.get(primitive) : primitive;
     }
@@ -63,8 +208,13 @@ public class JavaTypes {
         return primitivesByBox.containsKey(box) ? primitivesByBox.get(box) : box;
     }
 
+    public static Class<?> forName(String name, ClassLoader loader) throws ClassNotFoundException {
+        Class<?> primitive = primitivesByName.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, loader);
+    }
+
     public static Class<?> getArrayType(Class<?> component, int dimensions) {
-        return Array.newInstance(component, new int[dimensions]).getClass();
+        return dimensions == 0 ? component : Array.newInstance(component, new int[dimensions]).getClass();
     }
 
     public static Class getCommonParent(List<Class> cls) {
@@ -77,7 +227,7 @@ public class JavaTypes {
         List<Class> current = new ArrayList<>();
         current.addAll(cls);
 
-        while (current.stream().noneMatch(s -> cls.stream().allMatch(c -> s.isAssignableFrom(c)))) {
+        while (current.stream().noneMatch(s -> cls.stream().allMatch(c -> isSubclass(c, s)))) {
             List<Class> newCurrent = new ArrayList<>();
             for (Class c : current) {
                 if (c.getSuperclass() != null) {
@@ -88,7 +238,7 @@ public class JavaTypes {
             current = newCurrent;
         }
 
-        return current.stream().filter(s -> cls.stream().allMatch(c -> s.isAssignableFrom(c))).findFirst().get();
+        return current.stream().filter(s -> cls.stream().allMatch(c -> isSubclass(c, s))).findFirst().get();
     }
 
     public static MethodType of(Method method) {
@@ -98,20 +248,24 @@ public class JavaTypes {
             builder.param(of(type));
         }
 
+        for (TypeVariable<Method> var : method.getTypeParameters()) {
+            builder.generic(of(var));
+        }
+
         return builder.build();
     }
 
     public static GenericType ofParameterized(Class<?> cls) {
-        GenericType.Builder builder = GenericType.builder(cls);
-        for (Type param : cls.getTypeParameters()) {
-            builder.generic(of(param));
-        }
-        return builder.build();
+        return PARAMETERIZED.get(cls);
+    }
+
+    static GenericType parameterized(Class<?> cls) {
+        return PARAMETERIZED.get(cls);
     }
 
     public static Optional<GenericType> resolveGenericsToSubtype(Class<?> sub, GenericType parent) {
-        GenericType common = ofParameterized(sub);
-        return resolveGenericsToSupertype(common, parent.getType()).map(type -> {
+        GenericType common = PARAMETERIZED.get(sub);
+        return projectToSupertype(common, parent.getType()).map(type -> {
            List<JavaType> res = new ArrayList<>(common.getGenerics());
 
             for (int i = 0; i < common.genericCount(); i++) {
@@ -133,63 +287,44 @@ public class JavaTypes {
                 }
             }
 
-            return GenericType.builder(sub).generics(res).build();
+            return GenericType.of(sub, res);
         });
     }
 
     public static Optional<GenericType> resolveGenericsToSupertype(GenericType sub, Class<?> parent) {
-        return getHierarchy(sub.getType(), parent).map(hierarchy -> {
-            Map<String, JavaType> paramMap = new LinkedHashMap<>();
-            GenericType subParams = ofParameterized(sub.getType());
-            for (int i = 0; i < subParams.getGenerics().size(); i++) {
-                paramMap.put(subParams.getGeneric(i).getName(), sub.getGeneric(i));
-            }
-
-            for (int i = 0; i < hierarchy.size() - 1; i++) {
-                Map<String, JavaType> newParamMap = new LinkedHashMap<>();
-
-                Class cls = hierarchy.get(i);
-                Class sup = hierarchy.get(i + 1);
+        return projectToSupertype(sub, parent);
+    }
 
-                GenericType superclassParams = ofParameterized(sup);
-                GenericType superclassFilled = (GenericType) of(getInherited(cls, sup).get());
+    private static Optional<GenericType> projectToSupertype(GenericType sub, Class<?> parent) {
+        if (!isSubclass(sub.getType(), parent)) {
+            return Optional.empty();
+        }
 
-                for (int j = 0; j < superclassParams.genericCount(); j++) {
-                    JavaType typeParam = superclassParams.getGeneric(j);
-                    JavaType filledParam = superclassFilled.getGeneric(j);
+        GenericType paramed = PARAMETERIZED.get(sub.getType());
+        if (sub.genericCount() != paramed.genericCount()) {
+            return streamSupertypes(sub).filter(type -> type.getType().equals(parent)).findFirst();
+        }
 
-                    if (filledParam.isVariable()) {
-                        newParamMap.put(typeParam.getName(), paramMap.get(filledParam.getName()));
-                    } else {
-                        newParamMap.put(typeParam.getName(), filledParam);
-                    }
+        Map<Class<?>, Optional<GenericType>> projections = SUPERTYPES.get(sub.getType());
+        Optional<GenericType> projection = projections.get(parent);
+        if (projection == null) {
+            projection = streamSupertypes(paramed).filter(type -> type.getType().equals(parent)).findFirst();
+            if (projections.putIfAbsent(parent, projection) == null && projection.isPresent()) {
+                AccessProfile recorder = profile;
+                if (recorder != null) {
+                    recorder.recordSupertype(sub.getType(), parent);
                 }
-
-                paramMap = newParamMap;
             }
+        }
 
-            GenericType parentGenerics = ofParameterized(parent);
-            List<JavaType> generics = new ArrayList<>();
-
-            for (JavaType param : parentGenerics.getGenerics()) {
-                JavaType target = paramMap.get(param.getName());
-                if (target.isVariable()) {
-                    for (int i = 0; i < subParams.genericCount(); i++) {
-                        JavaType subParam = subParams.getGeneric(i);
-                        JavaType filled = sub.getGeneric(i);
-
-                        if (subParam.getName().equals(target.getName())) {
-                            generics.add(filled);
-                            break;
-                        }
-                    }
-                } else {
-                    generics.add(target);
-                }
-            }
+        if (sub.equals(paramed) || !projection.isPresent() || projection.get().genericCount() == 0) {
+            return projection;
+        }
+        return Optional.of((GenericType) projection.get().resolveVariables(sub, paramed));
+    }
 
-            return GenericType.builder(parent).generics(generics).build();
-        });
+    public static Stream<GenericType> streamSupertypes(GenericType type) {
+        return StreamSupport.stream(new SupertypeSpliterator(type), false);
     }
 
     public static JavaType of(Type type) {
@@ -197,17 +332,22 @@ public class JavaTypes {
     }
 
     public static JavaType of(Type type, int arr) {
+        return of(type, arr, null);
+    }
+
+    private static JavaType of(Type type, int arr, Set<TypeVariable<?>> visiting) {
         if (type instanceof Class) {
             return ofCls((Class<?>) type, arr);
         } else if (type instanceof ParameterizedType) {
             ParameterizedType ptype = (ParameterizedType) type;
             Type raw = ptype.getRawType();
             if (raw instanceof Class) {
-                GenericType.Builder builder = GenericType.builder((Class<?>) raw);
-                for (Type param : ptype.getActualTypeArguments()) {
-                    builder.generic(of(param));
+                Type[] params = ptype.getActualTypeArguments();
+                JavaType[] generics = new JavaType[params.length];
+                for (int i = 0; i < params.length; i++) {
+                    generics[i] = of(params[i], 0, visiting);
                 }
-                return builder.build().array(arr);
+                return GenericType.wrap((Class<?>) raw, generics).array(arr);
             } else {
                 throw new IllegalArgumentException("Unknown raw type: " + type.getClass().getName());
             }
@@ -215,23 +355,30 @@ public class JavaTypes {
             WildcardType wtype = (WildcardType) type;
             VariableType.Builder builder = VariableType.builder("?");
             for (Type up : wtype.getUpperBounds()) {
-                builder.upper(of(up));
+                builder.upper(of(up, 0, visiting));
             }
 
             for (Type low : wtype.getLowerBounds()) {
-                builder.lower(of(low));
+                builder.lower(of(low, 0, visiting));
             }
             return builder.build().array(arr);
         } else if (type instanceof TypeVariable) {
-            TypeVariable vtype = (TypeVariable) type;
+            TypeVariable<?> vtype = (TypeVariable<?>) type;
             VariableType.Builder builder = VariableType.builder(vtype.getName());
-            for (Type up : vtype.getBounds()) {
-                builder.upper(of(up));
+            if (visiting == null) {
+                visiting = new HashSet<>();
+            }
+
+            if (visiting.add(vtype)) {
+                for (Type up : vtype.getBounds()) {
+                    builder.upper(of(up, 0, visiting));
+                }
+                visiting.remove(vtype);
             }
-            return builder.build();
+            return builder.build().array(arr);
         } else if (type instanceof GenericArrayType) {
             GenericArrayType atype = (GenericArrayType) type;
-            return of(atype.getGenericComponentType(), arr + 1);
+            return of(atype.getGenericComponentType(), arr + 1, visiting);
         } else {
             throw new IllegalArgumentException("Unknown type: " + type.getClass().getName());
         }
@@ -243,41 +390,82 @@ public class JavaTypes {
             c = c.getComponentType();
             arr++;
         }
-        return GenericType.builder(c).build().array(arr);
+        return GenericType.of(c).array(arr);
     }
 
     public static JavaType of(Token<?> token) {
         return of(((ParameterizedType) token.getClass().getGenericSuperclass()).getActualTypeArguments()[0]);
     }
 
-    private static List<Class> append(List<Class> tests, Class test) {
-        List<Class> cls = new ArrayList<>();
+    private static List<Class<?>> append(List<Class<?>> tests, Class<?> test) {
+        List<Class<?>> cls = new ArrayList<>();
         cls.addAll(tests);
         cls.add(test);
         return cls;
     }
 
-    public static Optional<List<Class>> getHierarchy(Class sub, Class parent) {
-        List<List<Class>> tests = new ArrayList<>();
-        List<Class> firstTest = new ArrayList<>();
+    public static Set<Class<?>> getSupertypes(Class<?> cls) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        List<Class<?>> current = new ArrayList<>();
+        current.add(cls);
+
+        while (!current.isEmpty()) {
+            List<Class<?>> next = new ArrayList<>();
+            for (Class<?> c : current) {
+                if (supertypes.add(c)) {
+                    if (c.getSuperclass() != null) {
+                        next.add(c.getSuperclass());
+                    }
+                    Collections.addAll(next, c.getInterfaces());
+                }
+            }
+            current = next;
+        }
+
+        return supertypes;
+    }
+
+    public static Optional<List<Class<?>>> getHierarchy(Class<?> sub, Class<?> parent) {
+        if (!isSubclass(sub, parent)) {
+            return Optional.empty();
+        }
+
+        Map<Class<?>, Optional<List<Class<?>>>> hierarchies = HIERARCHIES.get(sub);
+        Optional<List<Class<?>>> hierarchy = hierarchies.get(parent);
+        if (hierarchy == null) {
+            hierarchy = computeHierarchy(sub, parent).map(Collections::unmodifiableList);
+            if (hierarchies.putIfAbsent(parent, hierarchy) == null) {
+                AccessProfile recorder = profile;
+                if (recorder != null) {
+                    recorder.recordHierarchy(sub, parent);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
+    private static Optional<List<Class<?>>> computeHierarchy(Class<?> sub, Class<?> parent) {
+        List<List<Class<?>>> tests = new ArrayList<>();
+        List<Class<?>> firstTest = new ArrayList<>();
         firstTest.add(sub);
         tests.add(firstTest);
 
         while (!tests.isEmpty()) {
-            List<List<Class>> newTests = new ArrayList<>();
-            for (List<Class> test : tests) {
-                Class target = test.get(test.size() - 1);
+            List<List<Class<?>>> newTests = new ArrayList<>();
+            for (List<Class<?>> test : tests) {
+                Class<?> target = test.get(test.size() - 1);
                 if (target.equals(parent)) {
                     return Optional.of(test);
                 } else {
-                    Class superClass = target.getSuperclass();
-                    if (superClass != null) {
+                    Class<?> superClass = target.getSuperclass();
+                    if (superClass != null && isSubclass(superClass, parent)) {
                         newTests.add(append(test, superClass));
                     }
 
-                    Class[] interfaces = target.getInterfaces();
-                    for (Class face : interfaces) {
-                        newTests.add(append(test, face));
+                    for (Class<?> face : target.getInterfaces()) {
+                        if (isSubclass(face, parent)) {
+                            newTests.add(append(test, face));
+                        }
                     }
                 }
             }
@@ -1,9 +1,14 @@
 package honeyroasted.javatype;
 
+import honeyroasted.javatype.visitor.TypeTransformer;
+import honeyroasted.javatype.visitor.TypeVisitor;
+import honeyroasted.javatype.visitor.TypeWalker;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 public class MethodType {
@@ -11,6 +16,8 @@ public class MethodType {
     private List<JavaType> params;
     private List<JavaType> generics;
 
+    private String name;
+
     private MethodType(JavaType ret, List<JavaType> params, List<JavaType> generics) {
         this.ret = ret;
         this.params = params;
@@ -82,9 +89,57 @@ public class MethodType {
         return true;
     }
 
+    public java.lang.invoke.MethodType toInvokeType() {
+        Class<?>[] params = new Class<?>[this.params.size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = this.params.get(i).getType();
+        }
+        return java.lang.invoke.MethodType.methodType(this.ret.getType(), params);
+    }
+
+    public void accept(TypeVisitor visitor) {
+        TypeWalker.walk(this, visitor);
+    }
+
+    public MethodType transform(TypeTransformer transformer) {
+        return TypeWalker.transform(this, transformer);
+    }
+
     public String getName() {
-        return this.ret.getName() + " (" +
-                this.params.stream().map(JavaType::getName).reduce((a, b) -> a + ", " + b).orElse("") + ")";
+        String name = this.name;
+        if (name == null) {
+            name = TypeRenderer.renderName(this, new StringBuilder()).toString();
+            this.name = name;
+        }
+        return name;
+    }
+
+    public String getDescriptor() {
+        return TypeRenderer.descriptor(this);
+    }
+
+    public String getSignature() {
+        return TypeRenderer.signature(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MethodType)) return false;
+        MethodType that = (MethodType) o;
+        return Objects.equals(ret, that.ret) &&
+                Objects.equals(params, that.params) &&
+                Objects.equals(generics, that.generics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ret, params, generics);
+    }
+
+    @Override
+    public String toString() {
+        return this.getName();
     }
 
     public static class Builder {
@@ -133,8 +188,7 @@ public class MethodType {
         }
 
         public MethodType build() {
-            return new MethodType(this.ret, Collections.unmodifiableList(new ArrayList<>(this.params)),
-                    Collections.unmodifiableList(new ArrayList<>(this.generics)));
+            return new MethodType(this.ret, TypeList.copyOf(this.params), TypeList.copyOf(this.generics));
         }
 
     }
@@ -0,0 +1,70 @@
+package honeyroasted.javatype;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+class SupertypeSpliterator extends Spliterators.AbstractSpliterator<GenericType> {
+    private Queue<GenericType> queue = new ArrayDeque<>();
+    private Set<Class<?>> visited = new HashSet<>();
+    private GenericType pending;
+
+    SupertypeSpliterator(GenericType type) {
+        super(Long.MAX_VALUE, Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED);
+        this.queue.add(type);
+        this.visited.add(type.getType());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GenericType> action) {
+        if (this.pending != null) {
+            expand(this.pending);
+            this.pending = null;
+        }
+
+        GenericType next = this.queue.poll();
+        if (next == null) {
+            return false;
+        }
+
+        this.pending = next;
+        action.accept(next);
+        return true;
+    }
+
+    private void expand(GenericType type) {
+        Class<?> cls = type.getType();
+        GenericType paramed = null;
+
+        Type superclass = cls.getGenericSuperclass();
+        if (superclass != null) {
+            paramed = enqueue(type, paramed, cls.getSuperclass(), superclass);
+        }
+
+        Class<?>[] interfaces = cls.getInterfaces();
+        Type[] genericInterfaces = cls.getGenericInterfaces();
+        for (int i = 0; i < interfaces.length; i++) {
+            paramed = enqueue(type, paramed, interfaces[i], genericInterfaces[i]);
+        }
+    }
+
+    private GenericType enqueue(GenericType type, GenericType paramed, Class<?> raw, Type inherited) {
+        if (this.visited.add(raw)) {
+            JavaType supertype = JavaTypes.of(inherited);
+            if (supertype instanceof GenericType && ((GenericType) supertype).genericCount() > 0) {
+                if (paramed == null) {
+                    paramed = JavaTypes.parameterized(type.getType());
+                }
+                supertype = supertype.resolveVariables(type, paramed);
+            }
+            this.queue.add((GenericType) supertype);
+        }
+        return paramed;
+    }
+
+}
@@ -0,0 +1,156 @@
+package honeyroasted.javatype;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+abstract class TypeList extends AbstractList<JavaType> implements RandomAccess {
+    private static final TypeList EMPTY = new Empty();
+
+    static TypeList empty() {
+        return EMPTY;
+    }
+
+    static TypeList of(JavaType first) {
+        return new One(first);
+    }
+
+    static TypeList of(JavaType first, JavaType second) {
+        return new Two(first, second);
+    }
+
+    static TypeList wrap(JavaType[] types) {
+        switch (types.length) {
+            case 0:
+                return EMPTY;
+            case 1:
+                return new One(types[0]);
+            case 2:
+                return new Two(types[0], types[1]);
+            default:
+                return new Many(types);
+        }
+    }
+
+    static TypeList copyOf(JavaType[] types) {
+        return types.length > 2 ? new Many(types.clone()) : wrap(types);
+    }
+
+    static TypeList copyOf(Collection<? extends JavaType> types) {
+        if (types instanceof TypeList) {
+            return (TypeList) types;
+        }
+        return wrap(types.toArray(new JavaType[0]));
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < this.size(); i++) {
+            JavaType type = this.get(i);
+            hash = 31 * hash + (type == null ? 0 : type.hashCode());
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof List)) return false;
+        List<?> that = (List<?>) o;
+        if (this.size() != that.size()) return false;
+        if (!(that instanceof RandomAccess)) return super.equals(o);
+
+        for (int i = 0; i < this.size(); i++) {
+            Object a = this.get(i);
+            Object b = that.get(i);
+            if (a == null ? b != null : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Empty extends TypeList {
+
+        @Override
+        public JavaType get(int index) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+    }
+
+    private static final class One extends TypeList {
+        private final JavaType first;
+
+        private One(JavaType first) {
+            this.first = first;
+        }
+
+        @Override
+        public JavaType get(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return this.first;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+    }
+
+    private static final class Two extends TypeList {
+        private final JavaType first;
+        private final JavaType second;
+
+        private Two(JavaType first, JavaType second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public JavaType get(int index) {
+            if (index == 0) {
+                return this.first;
+            } else if (index == 1) {
+                return this.second;
+            }
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+
+    }
+
+    private static final class Many extends TypeList {
+        private final JavaType[] types;
+
+        private Many(JavaType[] types) {
+            this.types = types;
+        }
+
+        @Override
+        public JavaType get(int index) {
+            return this.types[index];
+        }
+
+        @Override
+        public int size() {
+            return this.types.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,213 @@
+package honeyroasted.javatype;
+
+import honeyroasted.javatype.visitor.TypeTransformer;
+import honeyroasted.javatype.visitor.TypeWalker;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TypeParser {
+    private String signature;
+    private ClassLoader loader;
+    private int index;
+
+    private TypeParser(String signature, ClassLoader loader) {
+        this.signature = signature;
+        this.loader = loader;
+    }
+
+    public static JavaType parse(String signature, ClassLoader loader) {
+        TypeParser parser = new TypeParser(signature, loader);
+        JavaType type = parser.type();
+        parser.end();
+        return type;
+    }
+
+    public static MethodType parseMethod(String signature, ClassLoader loader) {
+        TypeParser parser = new TypeParser(signature, loader);
+        Map<String, List<JavaType>> bounds = new LinkedHashMap<>();
+        if (parser.peek() == '<') {
+            parser.index++;
+            while (parser.peek() != '>') {
+                parser.typeParameter(bounds);
+            }
+            parser.index++;
+        }
+
+        parser.expect('(');
+        List<JavaType> params = new ArrayList<>();
+        while (parser.peek() != ')') {
+            params.add(bind(parser.type(), bounds));
+        }
+        parser.expect(')');
+        MethodType.Builder builder = MethodType.builder(bind(parser.type(), bounds)).params(params);
+        parser.end();
+
+        for (String name : bounds.keySet()) {
+            builder.generic(bind(VariableType.builder(name).build(), bounds));
+        }
+        return builder.build();
+    }
+
+    private void typeParameter(Map<String, List<JavaType>> bounds) {
+        int end = this.signature.indexOf(':', this.index);
+        if (end == -1) {
+            throw error("Unterminated type parameter");
+        }
+        String name = this.signature.substring(this.index, end);
+        this.index = end + 1;
+
+        List<JavaType> upper = new ArrayList<>();
+        if (peek() != ':') {
+            upper.add(type());
+        }
+        while (peek() == ':') {
+            this.index++;
+            upper.add(type());
+        }
+        bounds.put(name, upper);
+    }
+
+    private static JavaType bind(JavaType type, Map<String, List<JavaType>> bounds) {
+        return bounds.isEmpty() ? type : bind(type, bounds, new HashSet<>());
+    }
+
+    private static JavaType bind(JavaType type, Map<String, List<JavaType>> bounds, Set<String> visiting) {
+        return TypeWalker.transform(type, new TypeTransformer() {
+            @Override
+            public JavaType replace(JavaType type) {
+                if (!(type instanceof VariableType) || !bounds.containsKey(type.getName()) || !visiting.add(type.getName())) {
+                    return type;
+                }
+
+                VariableType.Builder builder = VariableType.builder(type.getName());
+                for (JavaType bound : bounds.get(type.getName())) {
+                    builder.upper(bind(bound, bounds, visiting));
+                }
+                visiting.remove(type.getName());
+                return builder.build();
+            }
+        });
+    }
+
+    private JavaType type() {
+        char c = next();
+        switch (c) {
+            case 'B':
+                return JavaTypes.of(byte.class);
+            case 'C':
+                return JavaTypes.of(char.class);
+            case 'D':
+                return JavaTypes.of(double.class);
+            case 'F':
+                return JavaTypes.of(float.class);
+            case 'I':
+                return JavaTypes.of(int.class);
+            case 'J':
+                return JavaTypes.of(long.class);
+            case 'S':
+                return JavaTypes.of(short.class);
+            case 'Z':
+                return JavaTypes.of(boolean.class);
+            case 'V':
+                return JavaTypes.of(void.class);
+            case '[': {
+                int dimensions = 1;
+                while (peek() == '[') {
+                    this.index++;
+                    dimensions++;
+                }
+                return type().array(dimensions);
+            }
+            case 'T': {
+                int end = this.signature.indexOf(';', this.index);
+                if (end == -1) {
+                    throw error("Unterminated type variable");
+                }
+                String name = this.signature.substring(this.index, end);
+                this.index = end + 1;
+                return VariableType.builder(name).build();
+            }
+            case 'L':
+                return classType();
+            default:
+                throw error("Unexpected '" + c + "'");
+        }
+    }
+
+    private JavaType classType() {
+        int start = this.index;
+        while (peek() != ';' && peek() != '<') {
+            this.index++;
+        }
+        Class<?> cls = load(this.signature.substring(start, this.index).replace('/', '.'));
+
+        List<JavaType> arguments = new ArrayList<>();
+        if (peek() == '<') {
+            this.index++;
+            while (peek() != '>') {
+                arguments.add(argument());
+            }
+            this.index++;
+        }
+        expect(';');
+        return GenericType.of(cls, arguments);
+    }
+
+    private JavaType argument() {
+        char c = peek();
+        if (c == '*') {
+            this.index++;
+            return VariableType.builder("?").build();
+        } else if (c == '+') {
+            this.index++;
+            return VariableType.builder("?").upper(type()).build();
+        } else if (c == '-') {
+            this.index++;
+            return VariableType.builder("?").lower(type()).build();
+        }
+        return type();
+    }
+
+    private Class<?> load(String name) {
+        try {
+            return JavaTypes.forName(name, this.loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown class " + name + " in signature " + this.signature, e);
+        }
+    }
+
+    private char peek() {
+        if (this.index >= this.signature.length()) {
+            throw error("Unexpected end of signature");
+        }
+        return this.signature.charAt(this.index);
+    }
+
+    private char next() {
+        char c = peek();
+        this.index++;
+        return c;
+    }
+
+    private void expect(char c) {
+        if (next() != c) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private void end() {
+        if (this.index != this.signature.length()) {
+            throw error("Trailing characters");
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at " + this.index + " in signature " + this.signature);
+    }
+
+}
@@ -0,0 +1,236 @@
+package honeyroasted.javatype;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+public final class TypeRenderer {
+
+    private TypeRenderer() {
+
+    }
+
+    public static <A extends Appendable> A render(JavaType type, A out) {
+        try {
+            write(type, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    public static StringBuilder render(JavaType type, StringBuilder out) {
+        try {
+            write(type, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    private static void write(JavaType type, Appendable out) throws IOException {
+        String cached = type.cachedString();
+        if (cached != null) {
+            out.append(cached);
+            return;
+        }
+
+        if (type instanceof GenericType) {
+            GenericType generic = (GenericType) type;
+            out.append(generic.getType().getName());
+            if (generic.genericCount() != 0) {
+                out.append('<');
+                join(generic.getGenerics(), ", ", out);
+                out.append('>');
+            }
+        } else if (type instanceof ArrayType) {
+            ArrayType array = (ArrayType) type;
+            write(array.getAbsoluteComponent(), out);
+            for (int i = 0; i < array.getDimensions(); i++) {
+                out.append("[]");
+            }
+        } else if (type instanceof VariableType) {
+            VariableType var = (VariableType) type;
+            out.append(var.getName());
+            if (!var.getUpper().isEmpty()) {
+                out.append(" extends ");
+                join(var.getUpper(), " & ", out);
+                if (!var.getLower().isEmpty()) {
+                    out.append(" |");
+                }
+            }
+
+            if (!var.getLower().isEmpty()) {
+                out.append(" super ");
+                join(var.getLower(), " & ", out);
+            }
+        } else {
+            out.append(type.toString());
+        }
+    }
+
+    public static StringBuilder renderName(MethodType type, StringBuilder out) {
+        out.append(type.getRet().getName()).append(" (");
+        List<JavaType> params = type.getParams();
+        for (int i = 0; i < params.size(); i++) {
+            if (i != 0) {
+                out.append(", ");
+            }
+            out.append(params.get(i).getName());
+        }
+        return out.append(')');
+    }
+
+    public static String descriptor(JavaType type) {
+        return descriptor(type, new StringBuilder()).toString();
+    }
+
+    public static StringBuilder descriptor(JavaType type, StringBuilder out) {
+        if (type instanceof ArrayType) {
+            ArrayType array = (ArrayType) type;
+            for (int i = 0; i < array.getDimensions(); i++) {
+                out.append('[');
+            }
+            return descriptor(array.getAbsoluteComponent(), out);
+        } else if (type instanceof VariableType && !((VariableType) type).getUpper().isEmpty()) {
+            return descriptor(((VariableType) type).getUpper().get(0), out);
+        }
+        return descriptor(type.getType(), out);
+    }
+
+    public static String descriptor(MethodType type) {
+        return descriptor(type, new StringBuilder()).toString();
+    }
+
+    public static StringBuilder descriptor(MethodType type, StringBuilder out) {
+        out.append('(');
+        for (JavaType param : type.getParams()) {
+            descriptor(param, out);
+        }
+        out.append(')');
+        return descriptor(type.getRet(), out);
+    }
+
+    public static String signature(JavaType type) {
+        return signature(type, new StringBuilder()).toString();
+    }
+
+    public static StringBuilder signature(JavaType type, StringBuilder out) {
+        if (type instanceof GenericType) {
+            GenericType generic = (GenericType) type;
+            if (generic.getType().isPrimitive()) {
+                return descriptor(generic.getType(), out);
+            }
+
+            out.append('L').append(internalName(generic.getType()));
+            if (generic.genericCount() != 0) {
+                out.append('<');
+                for (JavaType argument : generic.getGenerics()) {
+                    argument(argument, out);
+                }
+                out.append('>');
+            }
+            return out.append(';');
+        } else if (type instanceof ArrayType) {
+            ArrayType array = (ArrayType) type;
+            for (int i = 0; i < array.getDimensions(); i++) {
+                out.append('[');
+            }
+            return signature(array.getAbsoluteComponent(), out);
+        } else if (type instanceof VariableType) {
+            if (isWildcard(type)) {
+                return argument(type, out);
+            }
+            return out.append('T').append(type.getName()).append(';');
+        }
+        return descriptor(type, out);
+    }
+
+    public static String signature(MethodType type) {
+        return signature(type, new StringBuilder()).toString();
+    }
+
+    public static StringBuilder signature(MethodType type, StringBuilder out) {
+        if (!type.getGenerics().isEmpty()) {
+            out.append('<');
+            for (JavaType generic : type.getGenerics()) {
+                out.append(generic.getName()).append(':');
+                List<JavaType> bounds = generic instanceof VariableType ? ((VariableType) generic).getUpper() : null;
+                if (bounds == null || bounds.isEmpty()) {
+                    out.append("Ljava/lang/Object;");
+                } else {
+                    for (int i = 0; i < bounds.size(); i++) {
+                        JavaType bound = bounds.get(i);
+                        if (i != 0 || bound instanceof GenericType && bound.getType().isInterface()) {
+                            out.append(':');
+                        }
+                        signature(bound, out);
+                    }
+                }
+            }
+            out.append('>');
+        }
+
+        out.append('(');
+        for (JavaType param : type.getParams()) {
+            signature(param, out);
+        }
+        out.append(')');
+        return signature(type.getRet(), out);
+    }
+
+    private static StringBuilder argument(JavaType type, StringBuilder out) {
+        if (isWildcard(type)) {
+            VariableType var = (VariableType) type;
+            if (!var.getLower().isEmpty()) {
+                return signature(var.getLower().get(0), out.append('-'));
+            } else if (!var.getUpper().isEmpty()) {
+                return signature(var.getUpper().get(0), out.append('+'));
+            }
+            return out.append('*');
+        }
+        return signature(type, out);
+    }
+
+    private static StringBuilder descriptor(Class<?> cls, StringBuilder out) {
+        while (cls.isArray()) {
+            out.append('[');
+            cls = cls.getComponentType();
+        }
+
+        if (cls.isPrimitive()) {
+            return out.append(primitiveDescriptor(cls));
+        }
+        return out.append('L').append(internalName(cls)).append(';');
+    }
+
+    private static char primitiveDescriptor(Class<?> cls) {
+        if (cls == int.class) return 'I';
+        if (cls == long.class) return 'J';
+        if (cls == boolean.class) return 'Z';
+        if (cls == byte.class) return 'B';
+        if (cls == char.class) return 'C';
+        if (cls == short.class) return 'S';
+        if (cls == float.class) return 'F';
+        if (cls == double.class) return 'D';
+        return 'V';
+    }
+
+    private static String internalName(Class<?> cls) {
+        return cls.getName().replace('.', '/');
+    }
+
+    private static boolean isWildcard(JavaType type) {
+        return type instanceof VariableType && type.getName().equals("?");
+    }
+
+    private static void join(List<JavaType> types, String separator, Appendable out) throws IOException {
+        for (int i = 0; i < types.size(); i++) {
+            if (i != 0) {
+                out.append(separator);
+            }
+            write(types.get(i), out);
+        }
+    }
+
+}
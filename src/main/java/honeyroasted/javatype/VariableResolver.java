@@ -0,0 +1,36 @@
+package honeyroasted.javatype;
+
+import honeyroasted.javatype.visitor.TypeTransformer;
+
+import java.util.Optional;
+
+class VariableResolver implements TypeTransformer {
+    private GenericType filledType;
+    private GenericType paramedType;
+    private MethodType filledMethod;
+    private MethodType paramedMethod;
+
+    VariableResolver(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod) {
+        this.filledType = filledType;
+        this.paramedType = paramedType;
+        this.filledMethod = filledMethod;
+        this.paramedMethod = paramedMethod;
+    }
+
+    @Override
+    public JavaType replace(JavaType type) {
+        if (type instanceof VariableType) {
+            String name = type.getName();
+            if (this.filledMethod != null) {
+                Optional<JavaType> resolved = this.filledMethod.resolveVar(name, this.paramedMethod);
+                if (resolved.isPresent()) {
+                    return resolved.get();
+                }
+            }
+
+            return this.filledType.resolveVar(name, this.paramedType).orElse(type);
+        }
+        return type;
+    }
+
+}
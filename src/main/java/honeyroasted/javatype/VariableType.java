@@ -14,6 +14,8 @@ public class VariableType extends JavaType {
 
     private Class<?> effectiveType;
 
+    private String string;
+
     private VariableType(String name, List<JavaType> upper, List<JavaType> lower) {
         this.name = name;
         this.upper = upper;
@@ -33,43 +35,14 @@ public class VariableType extends JavaType {
         return new Builder(name);
     }
 
-    @Override
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType, MethodType filledMethod, MethodType paramedMethod) {
-        return filledType.resolveVar(this.name, paramedType).orElseGet(() -> {
-            VariableType.Builder builder = VariableType.builder(this.name);
-
-            for (JavaType upper : this.upper) {
-                builder.upper(upper.resolveVariables(filledType, paramedType, filledMethod, paramedMethod));
-            }
-
-            for (JavaType lower : this.lower) {
-                builder.lower(lower.resolveVariables(filledType, paramedType, filledMethod, paramedMethod));
-            }
-
-            return builder.build();
-        });
-    }
-
-    @Override
-    public JavaType resolveVariables(GenericType filledType, GenericType paramedType) {
-        return filledType.resolveVar(this.name, paramedType).orElseGet(() -> {
-            VariableType.Builder builder = VariableType.builder(this.name);
-
-            for (JavaType upper : this.upper) {
-                builder.upper(upper.resolveVariables(filledType, paramedType));
-            }
-
-            for (JavaType lower : this.lower) {
-                builder.lower(lower.resolveVariables(filledType, paramedType));
-            }
-
-            return builder.build();
-        });
-    }
-
     @Override
     public boolean isAssignableTo(JavaType other) {
-        return !this.upper.isEmpty() && this.upper.stream().anyMatch(t -> t.isAssignableTo(other));
+        for (int i = 0; i < this.upper.size(); i++) {
+            if (this.upper.get(i).isAssignableTo(other)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -81,8 +54,22 @@ public class VariableType extends JavaType {
                 return false;
             }
 
-            return this.getUpper().stream().allMatch(t -> v.getUpper().stream().allMatch(t::isAssignableTo)) &&
-                    this.getLower().stream().allMatch(t -> v.isAssignableTo(t, depth));
+            List<JavaType> otherUpper = v.getUpper();
+            for (int i = 0; i < this.upper.size(); i++) {
+                JavaType upper = this.upper.get(i);
+                for (int j = 0; j < otherUpper.size(); j++) {
+                    if (!upper.isAssignableTo(otherUpper.get(j))) {
+                        return false;
+                    }
+                }
+            }
+
+            for (int i = 0; i < this.lower.size(); i++) {
+                if (!v.isAssignableTo(this.lower.get(i), depth)) {
+                    return false;
+                }
+            }
+            return true;
         }
         return false;
     }
@@ -94,36 +81,17 @@ public class VariableType extends JavaType {
 
     @Override
     public String toString() {
-        StringBuilder str = new StringBuilder();
-        str.append(this.name);
-
-        if (!this.upper.isEmpty()) {
-            str.append(" extends ");
-
-            for (int i = 0; i < this.upper.size(); i++) {
-                str.append(this.upper.get(i));
-                if (i != this.upper.size() - 1) {
-                    str.append(" & ");
-                }
-            }
-
-            if (!this.lower.isEmpty()) {
-                str.append(" |");
-            }
-        }
-
-        if (!this.lower.isEmpty()) {
-            str.append(" super ");
-
-            for (int i = 0; i < this.lower.size(); i++) {
-                str.append(this.lower.get(i));
-                if (i != this.lower.size() - 1) {
-                    str.append(" & ");
-                }
-            }
+        String str = this.string;
+        if (str == null) {
+            str = TypeRenderer.render(this, new StringBuilder()).toString();
+            this.string = str;
         }
+        return str;
+    }
 
-        return str.toString();
+    @Override
+    String cachedString() {
+        return this.string;
     }
 
     @Override
@@ -202,8 +170,13 @@ public class VariableType extends JavaType {
         }
 
         public VariableType build() {
-            return new VariableType(this.name, Collections.unmodifiableList(this.upper.stream().filter(j -> !j.equals(JavaTypes.OBJECT)).collect(Collectors.toList())),
-                    Collections.unmodifiableList(new ArrayList<>(this.lower)));
+            List<JavaType> upper = new ArrayList<>(this.upper.size());
+            for (JavaType type : this.upper) {
+                if (!type.equals(JavaTypes.OBJECT)) {
+                    upper.add(type);
+                }
+            }
+            return new VariableType(this.name, TypeList.copyOf(upper), TypeList.copyOf(this.lower));
         }
     }
 }
@@ -0,0 +1,65 @@
+package honeyroasted.javatype.check;
+
+import java.util.Objects;
+
+public final class CheckMode {
+    public static final CheckMode FULL = new CheckMode(Integer.MAX_VALUE, 1);
+
+    private int limit;
+    private int stride;
+
+    private CheckMode(int limit, int stride) {
+        this.limit = limit;
+        this.stride = stride;
+    }
+
+    public static CheckMode sampled(int stride) {
+        if (stride <= 0) {
+            throw new IllegalArgumentException("Sample stride <= 0");
+        }
+        return new CheckMode(Integer.MAX_VALUE, stride);
+    }
+
+    public static CheckMode firstN(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Element limit < 0");
+        }
+        return new CheckMode(limit, 1);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    boolean shouldCheck(int index) {
+        return index < this.limit && index % this.stride == 0;
+    }
+
+    boolean isDone(int index) {
+        return index >= this.limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CheckMode)) return false;
+        CheckMode that = (CheckMode) o;
+        return limit == that.limit &&
+                stride == that.stride;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, stride);
+    }
+
+    @Override
+    public String toString() {
+        return this.stride != 1 ? "sampled(" + this.stride + ")" : this.limit != Integer.MAX_VALUE ? "firstN(" + this.limit + ")" : "full";
+    }
+
+}
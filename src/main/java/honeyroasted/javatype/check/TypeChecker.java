@@ -0,0 +1,7 @@
+package honeyroasted.javatype.check;
+
+public interface TypeChecker {
+
+    boolean check(Object value);
+
+}
@@ -0,0 +1,223 @@
+package honeyroasted.javatype.check;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.VariableType;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class TypeCheckers {
+    private static final TypeChecker ANY = value -> true;
+
+    private static final Map<Key, TypeChecker> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        JavaTypes.addInvalidationListener(TypeCheckers::invalidate);
+    }
+
+    private TypeCheckers() {
+
+    }
+
+    public static TypeChecker compile(JavaType type) {
+        return compile(type, CheckMode.FULL);
+    }
+
+    public static TypeChecker compile(JavaType type, CheckMode mode) {
+        Key key = new Key(type, mode);
+        TypeChecker checker = CACHE.get(key);
+        if (checker == null) {
+            checker = create(type, mode);
+            CACHE.putIfAbsent(key, checker);
+        }
+        return checker;
+    }
+
+    private static void invalidate(Set<Class<?>> classes) {
+        CACHE.keySet().removeIf(key -> JavaTypes.references(key.type, classes));
+    }
+
+    private static TypeChecker create(JavaType type, CheckMode mode) {
+        if (type instanceof VariableType) {
+            return variable((VariableType) type, mode);
+        } else if (type instanceof ArrayType) {
+            return array((ArrayType) type, mode);
+        } else if (type instanceof GenericType) {
+            return generic((GenericType) type, mode);
+        }
+        return instance(type.getType());
+    }
+
+    private static TypeChecker variable(VariableType type, CheckMode mode) {
+        List<TypeChecker> bounds = new ArrayList<>();
+        for (JavaType upper : type.getUpper()) {
+            TypeChecker bound = compile(upper, mode);
+            if (bound != ANY) {
+                bounds.add(bound);
+            }
+        }
+
+        if (bounds.isEmpty()) {
+            return ANY;
+        } else if (bounds.size() == 1) {
+            return bounds.get(0);
+        }
+
+        TypeChecker[] all = bounds.toArray(new TypeChecker[0]);
+        return value -> {
+            for (TypeChecker bound : all) {
+                if (!bound.check(value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static TypeChecker array(ArrayType type, CheckMode mode) {
+        Class<?> cls = type.getType();
+        JavaType absolute = type.getAbsoluteComponent();
+        if (absolute.getType().isPrimitive() || isRaw(absolute)) {
+            return instance(cls);
+        }
+
+        JavaType component = type.getComponent();
+
+        TypeChecker element = compile(component, mode);
+        return value -> {
+            if (value == null) {
+                return true;
+            } else if (!cls.isInstance(value)) {
+                return false;
+            }
+
+            int length = Array.getLength(value);
+            for (int i = 0; i < length && !mode.isDone(i); i++) {
+                if (mode.shouldCheck(i) && !element.check(Array.get(value, i))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static TypeChecker generic(GenericType type, CheckMode mode) {
+        Class<?> cls = type.getType();
+        if (cls.isPrimitive()) {
+            Class<?> box = JavaTypes.box(cls);
+            return value -> box.isInstance(value);
+        } else if (type.genericCount() == 0) {
+            return instance(cls);
+        }
+
+        if (Map.class.isAssignableFrom(cls)) {
+            GenericType map = type.resolveToSupertype(Map.class).get();
+            TypeChecker key = compile(map.getGeneric(0), mode);
+            TypeChecker val = compile(map.getGeneric(1), mode);
+            if (key != ANY || val != ANY) {
+                return mapChecker(cls, key, val, mode);
+            }
+        } else if (Collection.class.isAssignableFrom(cls)) {
+            TypeChecker element = compile(type.resolveToSupertype(Collection.class).get().getGeneric(0), mode);
+            if (element != ANY) {
+                return collectionChecker(cls, element, mode);
+            }
+        } else if (Optional.class.equals(cls)) {
+            TypeChecker element = compile(type.getGeneric(0), mode);
+            if (element != ANY) {
+                return value -> value == null || value instanceof Optional && element.check(((Optional<?>) value).orElse(null));
+            }
+        }
+
+        return instance(cls);
+    }
+
+    private static TypeChecker collectionChecker(Class<?> cls, TypeChecker element, CheckMode mode) {
+        return value -> {
+            if (value == null) {
+                return true;
+            } else if (!cls.isInstance(value)) {
+                return false;
+            }
+
+            int i = 0;
+            for (Object item : (Collection<?>) value) {
+                if (mode.isDone(i)) {
+                    break;
+                } else if (mode.shouldCheck(i) && !element.check(item)) {
+                    return false;
+                }
+                i++;
+            }
+            return true;
+        };
+    }
+
+    private static TypeChecker mapChecker(Class<?> cls, TypeChecker key, TypeChecker val, CheckMode mode) {
+        return value -> {
+            if (value == null) {
+                return true;
+            } else if (!cls.isInstance(value)) {
+                return false;
+            }
+
+            int i = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (mode.isDone(i)) {
+                    break;
+                } else if (mode.shouldCheck(i) && (!key.check(entry.getKey()) || !val.check(entry.getValue()))) {
+                    return false;
+                }
+                i++;
+            }
+            return true;
+        };
+    }
+
+    private static TypeChecker instance(Class<?> cls) {
+        if (cls.equals(Object.class)) {
+            return ANY;
+        }
+        return value -> value == null || cls.isInstance(value);
+    }
+
+    private static boolean isRaw(JavaType type) {
+        return type instanceof GenericType && ((GenericType) type).genericCount() == 0;
+    }
+
+    private static final class Key {
+        private JavaType type;
+        private CheckMode mode;
+
+        private Key(JavaType type, CheckMode mode) {
+            this.type = type;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(type, key.type) &&
+                    Objects.equals(mode, key.mode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, mode);
+        }
+
+    }
+
+}
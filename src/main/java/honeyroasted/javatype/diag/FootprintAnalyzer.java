@@ -0,0 +1,218 @@
+package honeyroasted.javatype.diag;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.VariableType;
+import honeyroasted.javatype.model.ClassModel;
+import honeyroasted.javatype.model.TypeModel;
+import honeyroasted.javatype.visitor.TypeInterner;
+import honeyroasted.javatype.visitor.TypeVisitor;
+import honeyroasted.javatype.visitor.TypeWalker;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class FootprintAnalyzer implements TypeVisitor {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private static final ClassValue<Integer> SHALLOW = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int size = HEADER;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        size += fieldSize(field.getType());
+                    }
+                }
+            }
+            return align(size);
+        }
+    };
+
+    private Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Map<JavaType, Integer> heights = new IdentityHashMap<>();
+    private Map<JavaType, Integer> structural = new HashMap<>();
+
+    private int roots;
+    private int methods;
+    private int references;
+    private int generics;
+    private int arrays;
+    private int variables;
+    private int others;
+    private long bytes;
+    private long duplicateBytes;
+    private int duplicates;
+
+    private JavaType deepest;
+    private int depth;
+    private JavaType widest;
+    private int width;
+
+    public static FootprintReport analyze(Collection<? extends JavaType> types) {
+        FootprintAnalyzer analyzer = new FootprintAnalyzer();
+        for (JavaType type : types) {
+            analyzer.add(type);
+        }
+        return analyzer.report();
+    }
+
+    public FootprintAnalyzer add(JavaType type) {
+        this.roots++;
+        TypeWalker.walk(type, this);
+        return this;
+    }
+
+    public FootprintAnalyzer add(MethodType type) {
+        this.roots++;
+        if (this.seen.add(type)) {
+            this.methods++;
+            this.bytes += SHALLOW.get(type.getClass()) + listSize(type.getParams()) + listSize(type.getGenerics());
+        }
+        TypeWalker.walk(type, this);
+        return this;
+    }
+
+    public FootprintAnalyzer add(ClassModel model) {
+        add(model.getParameterized());
+        for (GenericType supertype : model.getSupertypes().values()) {
+            add(supertype);
+        }
+        for (MethodType method : model.getMethods().values()) {
+            add(method);
+        }
+        for (JavaType field : model.getFields().values()) {
+            add(field);
+        }
+        return this;
+    }
+
+    public FootprintAnalyzer add(TypeModel model) {
+        for (ClassModel cls : model.getClasses()) {
+            add(cls);
+        }
+        return this;
+    }
+
+    public FootprintAnalyzer add(TypeInterner interner) {
+        for (JavaType type : interner.getTypes()) {
+            add(type);
+        }
+        return this;
+    }
+
+    public FootprintReport report() {
+        return new FootprintReport(this.roots, this.methods, this.references, this.generics, this.arrays, this.variables, this.others,
+                this.bytes, this.duplicates, this.duplicateBytes, this.deepest, this.depth, this.widest, this.width);
+    }
+
+    @Override
+    public boolean visitType(JavaType type) {
+        this.references++;
+        if (!this.seen.add(type)) {
+            return false;
+        }
+
+        long size = SHALLOW.get(type.getClass());
+        if (type instanceof GenericType) {
+            this.generics++;
+            size += listSize(((GenericType) type).getGenerics());
+        } else if (type instanceof ArrayType) {
+            this.arrays++;
+        } else if (type instanceof VariableType) {
+            this.variables++;
+            size += listSize(((VariableType) type).getUpper()) + listSize(((VariableType) type).getLower());
+        } else {
+            this.others++;
+        }
+        this.bytes += size;
+
+        if (this.structural.putIfAbsent(type, 1) != null) {
+            this.duplicates++;
+            this.duplicateBytes += size;
+        }
+        return true;
+    }
+
+    @Override
+    public void leave(JavaType type) {
+        int height = 0;
+        int children = 0;
+        if (type instanceof GenericType) {
+            List<JavaType> args = ((GenericType) type).getGenerics();
+            children = args.size();
+            height = maxHeight(args, height);
+        } else if (type instanceof ArrayType) {
+            children = 1;
+            height = this.heights.get(((ArrayType) type).getAbsoluteComponent());
+        } else if (type instanceof VariableType) {
+            VariableType var = (VariableType) type;
+            children = var.getUpper().size() + var.getLower().size();
+            height = maxHeight(var.getLower(), maxHeight(var.getUpper(), height));
+        }
+
+        height++;
+        this.heights.put(type, height);
+        if (height > this.depth) {
+            this.depth = height;
+            this.deepest = type;
+        }
+        if (children > this.width) {
+            this.width = children;
+            this.widest = type;
+        }
+    }
+
+    private int maxHeight(List<JavaType> types, int height) {
+        for (int i = 0; i < types.size(); i++) {
+            height = Math.max(height, this.heights.get(types.get(i)));
+        }
+        return height;
+    }
+
+    private long listSize(List<JavaType> list) {
+        if (!this.seen.add(list)) {
+            return 0;
+        }
+
+        long size = SHALLOW.get(list.getClass());
+        for (Class<?> c = list.getClass(); c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.getType().isArray()) {
+                    size += align(ARRAY_HEADER + REFERENCE * list.size());
+                }
+            }
+        }
+        return size;
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+}
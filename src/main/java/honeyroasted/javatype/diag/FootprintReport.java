@@ -0,0 +1,118 @@
+package honeyroasted.javatype.diag;
+
+import honeyroasted.javatype.JavaType;
+
+public final class FootprintReport {
+    private int roots;
+    private int methods;
+    private int references;
+    private int generics;
+    private int arrays;
+    private int variables;
+    private int others;
+    private long estimatedBytes;
+    private int duplicates;
+    private long duplicateBytes;
+    private JavaType deepest;
+    private int depth;
+    private JavaType widest;
+    private int width;
+
+    FootprintReport(int roots, int methods, int references, int generics, int arrays, int variables, int others, long estimatedBytes,
+                    int duplicates, long duplicateBytes, JavaType deepest, int depth, JavaType widest, int width) {
+        this.roots = roots;
+        this.methods = methods;
+        this.references = references;
+        this.generics = generics;
+        this.arrays = arrays;
+        this.variables = variables;
+        this.others = others;
+        this.estimatedBytes = estimatedBytes;
+        this.duplicates = duplicates;
+        this.duplicateBytes = duplicateBytes;
+        this.deepest = deepest;
+        this.depth = depth;
+        this.widest = widest;
+        this.width = width;
+    }
+
+    public int getRoots() {
+        return roots;
+    }
+
+    public int getMethods() {
+        return methods;
+    }
+
+    public int getReferences() {
+        return references;
+    }
+
+    public int getNodes() {
+        return generics + arrays + variables + others;
+    }
+
+    public int getGenerics() {
+        return generics;
+    }
+
+    public int getArrays() {
+        return arrays;
+    }
+
+    public int getVariables() {
+        return variables;
+    }
+
+    public int getOthers() {
+        return others;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public long getDuplicateBytes() {
+        return duplicateBytes;
+    }
+
+    public double getDuplicateRatio() {
+        return getNodes() == 0 ? 0 : (double) duplicates / getNodes();
+    }
+
+    public double getSharingRatio() {
+        return references == 0 ? 0 : 1 - (double) getNodes() / references;
+    }
+
+    public JavaType getDeepest() {
+        return deepest;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public JavaType getWidest() {
+        return widest;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public String toString() {
+        return "roots: " + this.roots + " (" + this.methods + " methods)\n" +
+                "nodes: " + getNodes() + " (generic " + this.generics + ", array " + this.arrays + ", variable " + this.variables + ", other " + this.others + ")\n" +
+                "references: " + this.references + String.format(" (%.1f%% shared)", getSharingRatio() * 100) + "\n" +
+                "estimated bytes: " + this.estimatedBytes + "\n" +
+                "duplicates: " + this.duplicates + String.format(" (%.1f%%, %d bytes)", getDuplicateRatio() * 100, this.duplicateBytes) + "\n" +
+                "deepest: " + this.depth + " " + this.deepest + "\n" +
+                "widest: " + this.width + " " + this.widest;
+    }
+
+}
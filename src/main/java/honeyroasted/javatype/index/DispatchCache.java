@@ -0,0 +1,166 @@
+package honeyroasted.javatype.index;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+public class DispatchCache<H> {
+    private static final int REBIND_MISSES = 8;
+
+    private static final Set<DispatchCache<?>> LIVE = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        JavaTypes.addInvalidationListener(DispatchCache::invalidateAll);
+    }
+
+    private TypeMap<H> handlers;
+
+    private volatile Binding<H> binding;
+    private volatile Site<H> last;
+    private int misses;
+
+    public DispatchCache(TypeMap<H> handlers) {
+        this.handlers = handlers;
+        this.binding = new Binding<>(handlers);
+        LIVE.add(this);
+    }
+
+    public void invalidate(Set<Class<?>> classes) {
+        Binding<H> current = this.binding;
+        for (Class<?> cls : classes) {
+            current.remove(cls);
+        }
+
+        Site<H> site = this.last;
+        if (site != null && classes.contains(site.type)) {
+            this.last = null;
+        }
+    }
+
+    private static void invalidateAll(Set<Class<?>> classes) {
+        List<DispatchCache<?>> caches;
+        synchronized (LIVE) {
+            caches = new ArrayList<>(LIVE);
+        }
+        for (DispatchCache<?> cache : caches) {
+            cache.invalidate(classes);
+        }
+    }
+
+    public Optional<Dispatch<H>> lookup(Object obj) {
+        return lookup(obj.getClass());
+    }
+
+    public Optional<Dispatch<H>> lookup(Class<?> cls) {
+        int version = this.handlers.getVersion();
+
+        Site<H> site = this.last;
+        if (site != null && site.type == cls && site.version == version) {
+            if (this.misses != 0) {
+                this.misses = 0;
+            }
+            return site.dispatch;
+        }
+
+        Binding<H> current = this.binding;
+        if (current.version != version) {
+            current = new Binding<>(this.handlers);
+            this.binding = current;
+        }
+
+        Site<H> resolved = current.get(cls);
+        if (site == null || site.version != version || ++this.misses >= REBIND_MISSES) {
+            this.last = resolved;
+            this.misses = 0;
+        }
+        return resolved.dispatch;
+    }
+
+    public TypeMap<H> getHandlers() {
+        return handlers;
+    }
+
+    private static final class Binding<H> extends ClassValue<Site<H>> {
+        private TypeMap<H> handlers;
+        private int version;
+
+        private Binding(TypeMap<H> handlers) {
+            this.handlers = handlers;
+            this.version = handlers.getVersion();
+        }
+
+        @Override
+        protected Site<H> computeValue(Class<?> type) {
+            JavaTypes.trackDependencies(type);
+            Optional<Dispatch<H>> dispatch = this.handlers.find(JavaTypes.ofCls(type, 0))
+                    .map(match -> new Dispatch<>(type, match.getKey(), match.getValue(), project(type, match)));
+            return new Site<>(type, this.version, dispatch);
+        }
+
+        private static JavaType project(Class<?> type, TypeMap.Match<?> match) {
+            if (type.isArray() || type.isPrimitive() || !(match.getKey() instanceof GenericType)) {
+                return match.getSupertype();
+            }
+            return JavaTypes.ofParameterized(type).resolveToSupertype(match.getKey().getType())
+                    .<JavaType>map(sup -> sup).orElse(match.getSupertype());
+        }
+
+    }
+
+    private static final class Site<H> {
+        private Class<?> type;
+        private int version;
+        private Optional<Dispatch<H>> dispatch;
+
+        private Site(Class<?> type, int version, Optional<Dispatch<H>> dispatch) {
+            this.type = type;
+            this.version = version;
+            this.dispatch = dispatch;
+        }
+
+    }
+
+    public static final class Dispatch<H> {
+        private Class<?> type;
+        private JavaType key;
+        private H handler;
+        private JavaType supertype;
+
+        private Dispatch(Class<?> type, JavaType key, H handler, JavaType supertype) {
+            this.type = type;
+            this.key = key;
+            this.handler = handler;
+            this.supertype = supertype;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public JavaType getKey() {
+            return key;
+        }
+
+        public H getHandler() {
+            return handler;
+        }
+
+        public JavaType getSupertype() {
+            return supertype;
+        }
+
+        @Override
+        public String toString() {
+            return this.type.getName() + " -> " + this.handler + " (" + this.supertype + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+package honeyroasted.javatype.index;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.VariableType;
+import honeyroasted.javatype.model.ClassModel;
+import honeyroasted.javatype.model.TypeModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class SubtypeIndex {
+    private Map<Class<?>, List<Entry>> subtypes;
+
+    private SubtypeIndex(Map<Class<?>, List<Entry>> subtypes) {
+        this.subtypes = subtypes;
+    }
+
+    public static SubtypeIndex of(Collection<? extends Class<?>> classes) {
+        return of(TypeModel.extract(classes));
+    }
+
+    public static SubtypeIndex of(TypeModel model) {
+        Map<Class<?>, List<Entry>> subtypes = new HashMap<>();
+        for (ClassModel cls : model.getClasses()) {
+            add(subtypes, cls.getType(), new Entry(cls.getType(), cls.getParameterized(), cls.getParameterized()));
+            for (Map.Entry<Class<?>, GenericType> sup : cls.getSupertypes().entrySet()) {
+                add(subtypes, sup.getKey(), new Entry(cls.getType(), cls.getParameterized(), sup.getValue()));
+            }
+        }
+
+        for (Map.Entry<Class<?>, List<Entry>> entry : subtypes.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return new SubtypeIndex(subtypes);
+    }
+
+    private static void add(Map<Class<?>, List<Entry>> subtypes, Class<?> parent, Entry entry) {
+        subtypes.computeIfAbsent(parent, k -> new ArrayList<>()).add(entry);
+    }
+
+    public List<Entry> getSubtypes(Class<?> parent) {
+        return this.subtypes.getOrDefault(parent, Collections.emptyList());
+    }
+
+    public List<Entry> find(GenericType target) {
+        List<Entry> candidates = getSubtypes(target.getType());
+        if (target.genericCount() == 0) {
+            return candidates;
+        }
+
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : candidates) {
+            if (entry.matches(target)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public List<Class<?>> findClasses(GenericType target) {
+        List<Class<?>> result = new ArrayList<>();
+        for (Entry entry : find(target)) {
+            result.add(entry.getType());
+        }
+        return result;
+    }
+
+    public static final class Entry {
+        private Class<?> type;
+        private GenericType parameterized;
+        private GenericType supertype;
+
+        private Entry(Class<?> type, GenericType parameterized, GenericType supertype) {
+            this.type = type;
+            this.parameterized = parameterized;
+            this.supertype = supertype;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public GenericType getParameterized() {
+            return parameterized;
+        }
+
+        public GenericType getSupertype() {
+            return supertype;
+        }
+
+        private boolean matches(GenericType target) {
+            Map<String, JavaType> bindings = null;
+            for (int i = 0; i < target.genericCount(); i++) {
+                JavaType inherited = this.supertype.getGeneric(i);
+                JavaType required = target.getGeneric(i);
+
+                if (isFree(inherited)) {
+                    for (JavaType upper : ((VariableType) inherited).getUpper()) {
+                        if (!fits(required, upper)) {
+                            return false;
+                        }
+                    }
+
+                    if (!required.isVariable()) {
+                        if (bindings == null) {
+                            bindings = new HashMap<>();
+                        }
+                        JavaType bound = bindings.putIfAbsent(inherited.getName(), required);
+                        if (bound != null && !bound.equals(required)) {
+                            return false;
+                        }
+                    }
+                } else if (!inherited.isAssignableTo(required, 0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean fits(JavaType required, JavaType upper) {
+            if (required.isVariable()) {
+                for (JavaType lower : ((VariableType) required).getLower()) {
+                    if (!lower.isAssignableTo(upper)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return required.isAssignableTo(upper);
+        }
+
+        private boolean isFree(JavaType type) {
+            if (type.isVariable()) {
+                List<JavaType> variables = this.parameterized.getGenerics();
+                for (int i = 0; i < variables.size(); i++) {
+                    if (variables.get(i).isVariable() && variables.get(i).getName().equals(type.getName())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return this.type.getName() + " -> " + this.supertype;
+        }
+
+    }
+
+}
@@ -0,0 +1,355 @@
+package honeyroasted.javatype.index;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.warmup.AccessProfile;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TypeMap<V> {
+    private static final int MEMO_LIMIT = 4096;
+
+    private static final Set<TypeMap<?>> LIVE = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    static {
+        JavaTypes.addInvalidationListener(TypeMap::invalidateAll);
+    }
+
+    private volatile State<V> state = new State<>(new ConcurrentHashMap<>(), 0, 0);
+
+    public TypeMap() {
+        LIVE.add(this);
+    }
+
+    public synchronized V put(JavaType key, V value) {
+        if (!(key instanceof GenericType) && !(key instanceof ArrayType)) {
+            throw new IllegalArgumentException("Unsupported key type: " + key);
+        }
+
+        State<V> current = this.state;
+        Class<?> raw = key.getType();
+        List<Entry<V>> entries = new ArrayList<>(current.entries.getOrDefault(raw, Collections.emptyList()));
+
+        V previous = null;
+        boolean replaced = false;
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).key.equals(key)) {
+                previous = entries.get(i).value;
+                entries.set(i, new Entry<>(key, value));
+                replaced = true;
+                break;
+            }
+        }
+
+        if (!replaced) {
+            entries.add(new Entry<>(key, value));
+        }
+
+        current.entries.put(raw, Collections.unmodifiableList(entries));
+        this.state = new State<>(current.entries, replaced ? current.size : current.size + 1, current.version + 1);
+        return previous;
+    }
+
+    public synchronized V remove(JavaType key) {
+        State<V> current = this.state;
+        Class<?> raw = key.getType();
+        List<Entry<V>> entries = new ArrayList<>(current.entries.getOrDefault(raw, Collections.emptyList()));
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).key.equals(key)) {
+                V previous = entries.remove(i).value;
+
+                if (entries.isEmpty()) {
+                    current.entries.remove(raw);
+                } else {
+                    current.entries.put(raw, Collections.unmodifiableList(entries));
+                }
+                this.state = new State<>(current.entries, current.size - 1, current.version + 1);
+                return previous;
+            }
+        }
+
+        return null;
+    }
+
+    public synchronized void clear() {
+        this.state = new State<>(new ConcurrentHashMap<>(), 0, this.state.version + 1);
+    }
+
+    public synchronized void invalidate(Set<Class<?>> classes) {
+        State<V> current = this.state;
+        if (!current.cache.isEmpty() && references(current, classes)) {
+            this.state = new State<>(current.entries, current.size, current.version);
+        }
+    }
+
+    private static <V> boolean references(State<V> state, Set<Class<?>> classes) {
+        for (Map.Entry<JavaType, Memo<V>> memo : state.cache.entrySet()) {
+            Optional<Match<V>> result = memo.getValue().result;
+            if (JavaTypes.references(memo.getKey(), classes) ||
+                    result.isPresent() && JavaTypes.references(result.get().supertype, classes)) {
+                return true;
+            }
+        }
+
+        for (List<Entry<V>> entries : state.entries.values()) {
+            for (Entry<V> entry : entries) {
+                if (JavaTypes.references(entry.key, classes)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void invalidateAll(Set<Class<?>> classes) {
+        List<TypeMap<?>> maps;
+        synchronized (LIVE) {
+            maps = new ArrayList<>(LIVE);
+        }
+        for (TypeMap<?> map : maps) {
+            map.invalidate(classes);
+        }
+    }
+
+    public V get(JavaType key) {
+        for (Entry<V> entry : this.state.entries.getOrDefault(key.getType(), Collections.emptyList())) {
+            if (entry.key.equals(key)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    public Optional<V> findValue(JavaType query) {
+        return find(query).map(Match::getValue);
+    }
+
+    public Optional<Match<V>> find(JavaType query) {
+        State<V> current = this.state;
+        Memo<V> memo = current.cache.get(query);
+        if (memo == null) {
+            AccessProfile profile = JavaTypes.getProfile().orElse(null);
+            if (profile != null) {
+                profile.recordLookup(query);
+            }
+
+            Optional<Match<V>> result = lookup(current, query);
+            current.remember(query, new Memo<>(result));
+            return result;
+        }
+
+        if (!memo.referenced) {
+            memo.referenced = true;
+        }
+        return memo.result;
+    }
+
+    public List<Match<V>> findAll(JavaType query) {
+        return matches(this.state, query);
+    }
+
+    public int size() {
+        return this.state.size;
+    }
+
+    public boolean isEmpty() {
+        return this.state.size == 0;
+    }
+
+    public int getVersion() {
+        return this.state.version;
+    }
+
+    private static <V> Optional<Match<V>> lookup(State<V> state, JavaType query) {
+        List<Match<V>> matches = matches(state, query);
+
+        Match<V> best = null;
+        for (Match<V> candidate : matches) {
+            if (best == null || isMoreSpecific(candidate.key, best.key)) {
+                best = candidate;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static <V> List<Match<V>> matches(State<V> state, JavaType query) {
+        List<Match<V>> matches = new ArrayList<>();
+        if (state.size == 0) {
+            return matches;
+        }
+
+        JavaType normalized = query.isVariable() ? JavaTypes.ofCls(query.getType(), 0) : query;
+        for (Class<?> raw : candidates(normalized)) {
+            for (Entry<V> entry : state.entries.getOrDefault(raw, Collections.emptyList())) {
+                Optional<? extends JavaType> projected = project(normalized, entry.key);
+                if (projected.isPresent() && matches(projected.get(), entry.key)) {
+                    matches.add(new Match<>(entry.key, entry.value, projected.get()));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Class<?>> candidates(JavaType query) {
+        Set<Class<?>> candidates = new LinkedHashSet<>();
+        if (query instanceof ArrayType) {
+            ArrayType array = (ArrayType) query;
+            for (Class<?> sup : JavaTypes.getSupertypes(array.getAbsoluteComponent().getType())) {
+                candidates.add(JavaTypes.getArrayType(sup, array.getDimensions()));
+            }
+            for (int dims = array.getDimensions() - 1; dims >= 0; dims--) {
+                candidates.add(JavaTypes.getArrayType(Object.class, dims));
+                candidates.add(JavaTypes.getArrayType(Cloneable.class, dims));
+                candidates.add(JavaTypes.getArrayType(Serializable.class, dims));
+            }
+        } else {
+            for (Class<?> sup : JavaTypes.getSupertypes(query.getType())) {
+                candidates.add(sup);
+            }
+        }
+        return candidates;
+    }
+
+    private static Optional<? extends JavaType> project(JavaType query, JavaType key) {
+        if (query.getType().equals(key.getType())) {
+            return Optional.of(query);
+        } else if (query instanceof ArrayType && key instanceof ArrayType
+                && ((ArrayType) query).getDimensions() == ((ArrayType) key).getDimensions()) {
+            return query.resolveToSupertype(((ArrayType) key).getAbsoluteComponent().getType());
+        } else if (query instanceof ArrayType) {
+            return Optional.of(key);
+        }
+        return query.resolveToSupertype(key.getType());
+    }
+
+    private static boolean matches(JavaType projected, JavaType key) {
+        JavaType component = key instanceof ArrayType ? ((ArrayType) key).getAbsoluteComponent() : key;
+        if (component instanceof GenericType && ((GenericType) component).genericCount() == 0) {
+            return true;
+        }
+        return projected.isAssignableTo(key);
+    }
+
+    private static boolean isMoreSpecific(JavaType a, JavaType b) {
+        if (!a.getType().equals(b.getType())) {
+            return JavaTypes.isSubclass(a.getType(), b.getType());
+        }
+        return a.isAssignableTo(b) && !b.isAssignableTo(a) || isRaw(b) && !isRaw(a);
+    }
+
+    private static boolean isRaw(JavaType type) {
+        JavaType component = type instanceof ArrayType ? ((ArrayType) type).getAbsoluteComponent() : type;
+        return component instanceof GenericType && ((GenericType) component).genericCount() == 0;
+    }
+
+    private static final class State<V> {
+        private Map<Class<?>, List<Entry<V>>> entries;
+        private Map<JavaType, Memo<V>> cache = new ConcurrentHashMap<>();
+        private int size;
+        private int version;
+
+        private JavaType[] clock;
+        private int count;
+        private int hand;
+
+        private State(Map<Class<?>, List<Entry<V>>> entries, int size, int version) {
+            this.entries = entries;
+            this.size = size;
+            this.version = version;
+        }
+
+        private synchronized void remember(JavaType query, Memo<V> memo) {
+            if (this.cache.putIfAbsent(query, memo) != null) {
+                return;
+            }
+
+            if (this.count < MEMO_LIMIT) {
+                if (this.clock == null || this.count == this.clock.length) {
+                    this.clock = Arrays.copyOf(this.clock == null ? new JavaType[0] : this.clock, Math.min(MEMO_LIMIT, Math.max(16, this.count * 2)));
+                }
+                this.clock[this.count++] = query;
+                return;
+            }
+
+            while (true) {
+                JavaType candidate = this.clock[this.hand];
+                Memo<V> existing = this.cache.get(candidate);
+                if (existing.referenced) {
+                    existing.referenced = false;
+                    this.hand = (this.hand + 1) % MEMO_LIMIT;
+                } else {
+                    this.cache.remove(candidate);
+                    this.clock[this.hand] = query;
+                    this.hand = (this.hand + 1) % MEMO_LIMIT;
+                    return;
+                }
+            }
+        }
+
+    }
+
+    private static final class Memo<V> {
+        private Optional<Match<V>> result;
+        private volatile boolean referenced;
+
+        private Memo(Optional<Match<V>> result) {
+            this.result = result;
+        }
+
+    }
+
+    private static final class Entry<V> {
+        private JavaType key;
+        private V value;
+
+        private Entry(JavaType key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+    public static final class Match<V> {
+        private JavaType key;
+        private V value;
+        private JavaType supertype;
+
+        private Match(JavaType key, V value, JavaType supertype) {
+            this.key = key;
+            this.value = value;
+            this.supertype = supertype;
+        }
+
+        public JavaType getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public JavaType getSupertype() {
+            return supertype;
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value + " (" + this.supertype + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,273 @@
+package honeyroasted.javatype.invoke;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.VariableType;
+import honeyroasted.javatype.visitor.TypeTransformer;
+import honeyroasted.javatype.warmup.AccessProfile;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class MethodInvokers {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Map<Key, MethodHandle> TYPED = new ConcurrentHashMap<>();
+    private static final Map<Method, MethodHandle> GENERIC = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, Integer> WIDENING_RANK = new HashMap<>();
+
+    static {
+        WIDENING_RANK.put(byte.class, 1);
+        WIDENING_RANK.put(short.class, 2);
+        WIDENING_RANK.put(char.class, 2);
+        WIDENING_RANK.put(int.class, 3);
+        WIDENING_RANK.put(long.class, 4);
+        WIDENING_RANK.put(float.class, 5);
+        WIDENING_RANK.put(double.class, 6);
+    }
+
+    static {
+        JavaTypes.addInvalidationListener(MethodInvokers::invalidate);
+    }
+
+    private MethodInvokers() {
+
+    }
+
+    public static MethodHandle invoker(Method method, MethodType callSite) {
+        return TYPED.computeIfAbsent(new Key(method, callSite), key -> {
+            MethodHandle handle = adapt(method, callSite);
+            AccessProfile profile = JavaTypes.getProfile().orElse(null);
+            if (profile != null) {
+                profile.recordInvoker(method, callSite);
+            }
+            return handle;
+        });
+    }
+
+    public static MethodHandle invoker(Method method) {
+        MethodHandle handle = GENERIC.get(method);
+        if (handle == null) {
+            handle = GENERIC.computeIfAbsent(method, m -> {
+                AccessProfile profile = JavaTypes.getProfile().orElse(null);
+                if (profile != null) {
+                    profile.recordInvoker(m);
+                }
+                return spread(m);
+            });
+        }
+        return handle;
+    }
+
+    public static Object invoke(Method method, Object receiver, Object... args) throws Throwable {
+        return (Object) invoker(method).invokeExact(receiver, args);
+    }
+
+    private static void invalidate(Set<Class<?>> classes) {
+        TYPED.keySet().removeIf(key -> classes.contains(key.method.getDeclaringClass()));
+        GENERIC.keySet().removeIf(method -> classes.contains(method.getDeclaringClass()));
+    }
+
+    public static boolean isConvertible(JavaType from, JavaType to) {
+        if (!isConvertible(from.getType(), to.getType())) {
+            return false;
+        }
+
+        if (from instanceof ArrayType && to instanceof ArrayType) {
+            ArrayType fromArray = (ArrayType) from;
+            ArrayType toArray = (ArrayType) to;
+            return fromArray.getDimensions() != toArray.getDimensions() ||
+                    isConvertible(fromArray.getAbsoluteComponent(), toArray.getAbsoluteComponent());
+        } else if (!isParameterized(from) || !isParameterized(to)) {
+            return true;
+        }
+
+        Optional<? extends JavaType> projected = from.resolveToSupertype(to.getType());
+        return projected.isPresent() && projected.get().isAssignableTo(to);
+    }
+
+    private static boolean isParameterized(JavaType type) {
+        return type instanceof GenericType && ((GenericType) type).genericCount() != 0;
+    }
+
+    private static boolean isConvertible(Class<?> from, Class<?> to) {
+        if (from.equals(to)) {
+            return true;
+        } else if (from.isPrimitive() && to.isPrimitive()) {
+            return isWidening(from, to);
+        } else if (from.isPrimitive()) {
+            return from != void.class && to.isAssignableFrom(JavaTypes.box(from));
+        } else if (to.isPrimitive()) {
+            Class<?> unboxed = JavaTypes.unbox(from);
+            return unboxed.isPrimitive() && unboxed != void.class && (unboxed.equals(to) || isWidening(unboxed, to));
+        }
+        return to.isAssignableFrom(from);
+    }
+
+    private static boolean isVariableNarrowing(JavaType declared, Class<?> to) {
+        return declared.isVariable() && to != void.class && declared.getType().isAssignableFrom(JavaTypes.box(to));
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        Integer fromRank = WIDENING_RANK.get(from);
+        Integer toRank = WIDENING_RANK.get(to);
+        if (fromRank == null || toRank == null || fromRank >= toRank) {
+            return false;
+        }
+        return from != char.class && to != char.class || from == char.class && toRank > 2;
+    }
+
+    private static MethodHandle adapt(Method method, MethodType callSite) {
+        MethodType declared = JavaTypes.of(method);
+        if (declared.getParams().size() != callSite.getParams().size()) {
+            throw new IllegalArgumentException("Expected " + declared.getParams().size() + " parameters for " + method + ", got " + callSite.getName());
+        }
+
+        Set<String> free = new HashSet<>();
+        for (TypeVariable<?> var : method.getDeclaringClass().getTypeParameters()) {
+            free.add(var.getName());
+        }
+        for (TypeVariable<?> var : method.getTypeParameters()) {
+            free.add(var.getName());
+        }
+
+        Map<String, JavaType> bindings = new HashMap<>();
+        Set<String> conflicts = new HashSet<>();
+        for (int i = 0; i < declared.getParams().size(); i++) {
+            infer(declared.getParams().get(i), callSite.getParams().get(i), free, bindings, conflicts);
+        }
+        bindings.keySet().removeAll(conflicts);
+
+        for (int i = 0; i < declared.getParams().size(); i++) {
+            JavaType param = substitute(declared.getParams().get(i), bindings);
+            if (!isConvertible(callSite.getParams().get(i), param)) {
+                throw new IllegalArgumentException("Cannot convert parameter " + i + " of " + method + " from " + callSite.getParams().get(i) + " to " + param);
+            }
+        }
+
+        JavaType ret = substitute(declared.getRet(), bindings);
+        Class<?> callRet = callSite.getRet().getType();
+        if (callRet != void.class && !isConvertible(ret, callSite.getRet()) && !isVariableNarrowing(ret, callRet)) {
+            throw new IllegalArgumentException("Cannot convert return type of " + method + " from " + ret + " to " + callSite.getRet());
+        }
+
+        java.lang.invoke.MethodType target = callSite.toInvokeType();
+        if (!Modifier.isStatic(method.getModifiers())) {
+            target = target.insertParameterTypes(0, method.getDeclaringClass());
+        }
+        return unreflect(method).asType(target);
+    }
+
+    private static void infer(JavaType declared, JavaType actual, Set<String> free, Map<String, JavaType> bindings, Set<String> conflicts) {
+        if (declared.isVariable() && free.contains(declared.getName())) {
+            JavaType boxed = actual.box();
+            JavaType bound = bindings.putIfAbsent(declared.getName(), boxed);
+            if (bound != null && !bound.equals(boxed)) {
+                conflicts.add(declared.getName());
+            }
+        } else if (declared.isVariable()) {
+            VariableType wildcard = (VariableType) declared;
+            VariableType other = actual.isVariable() ? (VariableType) actual : null;
+            for (JavaType upper : wildcard.getUpper()) {
+                if (other == null) {
+                    infer(upper, actual, free, bindings, conflicts);
+                } else if (!other.getUpper().isEmpty()) {
+                    infer(upper, other.getUpper().get(0), free, bindings, conflicts);
+                }
+            }
+            for (JavaType lower : wildcard.getLower()) {
+                if (other == null) {
+                    infer(lower, actual, free, bindings, conflicts);
+                } else if (!other.getLower().isEmpty()) {
+                    infer(lower, other.getLower().get(0), free, bindings, conflicts);
+                }
+            }
+        } else if (declared instanceof ArrayType && actual instanceof ArrayType) {
+            infer(((ArrayType) declared).getComponent(), ((ArrayType) actual).getComponent(), free, bindings, conflicts);
+        } else if (isParameterized(declared) && actual instanceof GenericType) {
+            GenericType generic = (GenericType) declared;
+            Optional<? extends JavaType> projected = actual.resolveToSupertype(generic.getType());
+            if (projected.isPresent() && projected.get() instanceof GenericType && ((GenericType) projected.get()).genericCount() == generic.genericCount()) {
+                for (int i = 0; i < generic.genericCount(); i++) {
+                    infer(generic.getGeneric(i), ((GenericType) projected.get()).getGeneric(i), free, bindings, conflicts);
+                }
+            }
+        }
+    }
+
+    private static JavaType substitute(JavaType type, Map<String, JavaType> bindings) {
+        if (bindings.isEmpty()) {
+            return type;
+        }
+
+        return type.transform(new TypeTransformer() {
+            @Override
+            public JavaType replace(JavaType type) {
+                JavaType bound = type.isVariable() ? bindings.get(type.getName()) : null;
+                return bound == null ? type : bound;
+            }
+        });
+    }
+
+    private static MethodHandle spread(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        int params = method.getParameterCount();
+        java.lang.invoke.MethodType erased = java.lang.invoke.MethodType.genericMethodType(params + 1);
+        return handle.asType(erased).asSpreader(Object[].class, params);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            return LOOKUP.unreflect(method).asFixedArity();
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("Cannot access " + method, e);
+        }
+    }
+
+    private static final class Key {
+        private Method method;
+        private MethodType type;
+
+        private Key(Method method, MethodType type) {
+            this.method = method;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(method, key.method) &&
+                    Objects.equals(type, key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, type);
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package honeyroasted.javatype.model;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.MethodType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+
+public final class ClassModel {
+    private Class<?> type;
+    private GenericType parameterized;
+    private Map<Class<?>, GenericType> supertypes;
+    private Map<Method, MethodType> methods;
+    private Map<Field, JavaType> fields;
+
+    ClassModel(Class<?> type, GenericType parameterized, Map<Class<?>, GenericType> supertypes, Map<Method, MethodType> methods, Map<Field, JavaType> fields) {
+        this.type = type;
+        this.parameterized = parameterized;
+        this.supertypes = supertypes;
+        this.methods = methods;
+        this.fields = fields;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public GenericType getParameterized() {
+        return parameterized;
+    }
+
+    public Map<Class<?>, GenericType> getSupertypes() {
+        return supertypes;
+    }
+
+    public Optional<GenericType> getSupertype(Class<?> parent) {
+        return Optional.ofNullable(this.supertypes.get(parent));
+    }
+
+    public Map<Method, MethodType> getMethods() {
+        return methods;
+    }
+
+    public Map<Field, JavaType> getFields() {
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return this.parameterized.toString();
+    }
+
+}
@@ -0,0 +1,202 @@
+package honeyroasted.javatype.model;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class FieldLayout {
+    private static final ClassValue<List<Template>> TEMPLATES = new ClassValue<List<Template>>() {
+        @Override
+        protected List<Template> computeValue(Class<?> type) {
+            JavaTypes.trackDependencies(type);
+            List<Class<?>> chain = new ArrayList<>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                chain.add(c);
+            }
+            Collections.reverse(chain);
+
+            List<Template> templates = new ArrayList<>();
+            for (Class<?> c : chain) {
+                GenericType parameterized = JavaTypes.ofParameterized(c);
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        templates.add(new Template(field, parameterized, JavaTypes.of(field.getGenericType())));
+                    }
+                }
+            }
+            return Collections.unmodifiableList(templates);
+        }
+    };
+
+    private static final Map<GenericType, FieldLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    static {
+        JavaTypes.addInvalidationListener(FieldLayout::invalidate);
+    }
+
+    private GenericType owner;
+    private List<Slot> slots;
+    private Map<String, Slot> byName;
+    private Map<Class<?>, Map<String, Slot>> byDeclaring;
+
+    private FieldLayout(GenericType owner, List<Slot> slots) {
+        this.owner = owner;
+        this.slots = slots;
+        this.byName = new HashMap<>();
+        this.byDeclaring = new HashMap<>();
+        for (int i = slots.size() - 1; i >= 0; i--) {
+            Slot slot = slots.get(i);
+            this.byName.putIfAbsent(slot.getName(), slot);
+            this.byDeclaring.computeIfAbsent(slot.getDeclaringClass(), k -> new HashMap<>()).put(slot.getName(), slot);
+        }
+    }
+
+    public static FieldLayout of(Class<?> cls) {
+        return of(JavaTypes.ofParameterized(cls));
+    }
+
+    public static FieldLayout of(GenericType owner) {
+        FieldLayout layout = LAYOUTS.get(owner);
+        if (layout == null) {
+            layout = LAYOUTS.computeIfAbsent(owner, FieldLayout::compute);
+        }
+        return layout;
+    }
+
+    public static void clearCache() {
+        LAYOUTS.clear();
+    }
+
+    private static void invalidate(Set<Class<?>> classes) {
+        for (Class<?> cls : classes) {
+            TEMPLATES.remove(cls);
+        }
+        LAYOUTS.keySet().removeIf(owner -> JavaTypes.references(owner, classes));
+    }
+
+    private static FieldLayout compute(GenericType owner) {
+        Class<?> cls = owner.getType();
+        if (cls.isPrimitive()) {
+            throw new IllegalArgumentException("Primitive types have no fields: " + owner);
+        }
+
+        GenericType filled = owner;
+        if (owner.genericCount() == 0) {
+            filled = JavaTypes.ofParameterized(cls);
+        } else if (owner.genericCount() != cls.getTypeParameters().length) {
+            throw new IllegalArgumentException("Wrong number of type arguments for " + cls.getName() + ": " + owner);
+        }
+
+        List<Template> templates = TEMPLATES.get(cls);
+        List<Slot> slots = new ArrayList<>(templates.size());
+        Map<Class<?>, GenericType> projections = new HashMap<>();
+        for (Template template : templates) {
+            Class<?> declaring = template.parameterized.getType();
+            GenericType projection = projections.get(declaring);
+            if (projection == null) {
+                GenericType source = filled;
+                projection = filled.resolveToSupertype(declaring).orElseThrow(() ->
+                        new IllegalStateException("Cannot resolve " + source + " to " + declaring.getName()));
+                projections.put(declaring, projection);
+            }
+
+            JavaType type = template.parameterized.genericCount() == 0 ? template.type :
+                    template.type.resolveVariables(projection, template.parameterized);
+            slots.add(new Slot(slots.size(), template.field, type));
+        }
+
+        return new FieldLayout(owner, Collections.unmodifiableList(slots));
+    }
+
+    public GenericType getOwner() {
+        return owner;
+    }
+
+    public List<Slot> getSlots() {
+        return slots;
+    }
+
+    public int size() {
+        return this.slots.size();
+    }
+
+    public Slot getSlot(int index) {
+        return this.slots.get(index);
+    }
+
+    public Optional<Slot> getSlot(String name) {
+        return Optional.ofNullable(this.byName.get(name));
+    }
+
+    public Optional<Slot> getSlot(Class<?> declaring, String name) {
+        return Optional.ofNullable(this.byDeclaring.getOrDefault(declaring, Collections.emptyMap()).get(name));
+    }
+
+    @Override
+    public String toString() {
+        return this.owner + " " + this.slots;
+    }
+
+    private static final class Template {
+        private Field field;
+        private GenericType parameterized;
+        private JavaType type;
+
+        private Template(Field field, GenericType parameterized, JavaType type) {
+            this.field = field;
+            this.parameterized = parameterized;
+            this.type = type;
+        }
+
+    }
+
+    public static final class Slot {
+        private int index;
+        private Field field;
+        private JavaType type;
+
+        private Slot(int index, Field field, JavaType type) {
+            this.index = index;
+            this.field = field;
+            this.type = type;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getName() {
+            return this.field.getName();
+        }
+
+        public Class<?> getDeclaringClass() {
+            return this.field.getDeclaringClass();
+        }
+
+        public JavaType getType() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return this.type + " " + this.field.getName();
+        }
+
+    }
+
+}
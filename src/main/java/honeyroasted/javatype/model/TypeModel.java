@@ -0,0 +1,106 @@
+package honeyroasted.javatype.model;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.visitor.TypeInterner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public final class TypeModel {
+    private Map<Class<?>, ClassModel> classes;
+    private int typeCount;
+
+    private TypeModel(Map<Class<?>, ClassModel> classes, int typeCount) {
+        this.classes = classes;
+        this.typeCount = typeCount;
+    }
+
+    public static TypeModel extract(Collection<? extends Class<?>> classes) {
+        return extract(classes, ForkJoinPool.commonPool());
+    }
+
+    public static TypeModel extract(Collection<? extends Class<?>> classes, Executor executor) {
+        TypeInterner interner = new TypeInterner();
+        List<CompletableFuture<ClassModel>> tasks = new ArrayList<>();
+        for (Class<?> cls : new LinkedHashSet<>(classes)) {
+            tasks.add(CompletableFuture.supplyAsync(() -> extract(cls, interner), executor));
+        }
+
+        Map<Class<?>, ClassModel> models = new LinkedHashMap<>();
+        for (CompletableFuture<ClassModel> task : tasks) {
+            ClassModel model = join(task);
+            models.put(model.getType(), model);
+        }
+
+        return new TypeModel(Collections.unmodifiableMap(models), interner.size());
+    }
+
+    private static ClassModel join(CompletableFuture<ClassModel> task) {
+        try {
+            return task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static ClassModel extract(Class<?> cls, TypeInterner interner) {
+        GenericType parameterized = (GenericType) interner.intern(JavaTypes.ofParameterized(cls));
+
+        Map<Class<?>, GenericType> supertypes = new LinkedHashMap<>();
+        parameterized.supertypes().skip(1).forEach(type -> supertypes.put(type.getType(), (GenericType) interner.intern(type)));
+
+        Map<Method, MethodType> methods = new LinkedHashMap<>();
+        for (Method method : cls.getDeclaredMethods()) {
+            if (!method.isSynthetic() && !method.isBridge()) {
+                methods.put(method, interner.intern(JavaTypes.of(method)));
+            }
+        }
+
+        Map<Field, JavaType> fields = new LinkedHashMap<>();
+        for (Field field : cls.getDeclaredFields()) {
+            if (!field.isSynthetic()) {
+                fields.put(field, interner.intern(JavaTypes.of(field.getGenericType())));
+            }
+        }
+
+        return new ClassModel(cls, parameterized, Collections.unmodifiableMap(supertypes),
+                Collections.unmodifiableMap(methods), Collections.unmodifiableMap(fields));
+    }
+
+    public Optional<ClassModel> get(Class<?> cls) {
+        return Optional.ofNullable(this.classes.get(cls));
+    }
+
+    public Collection<ClassModel> getClasses() {
+        return this.classes.values();
+    }
+
+    public int size() {
+        return this.classes.size();
+    }
+
+    public int getTypeCount() {
+        return typeCount;
+    }
+
+}
@@ -0,0 +1,141 @@
+package honeyroasted.javatype.table;
+
+import honeyroasted.javatype.JavaType;
+
+public final class TypeRef {
+    private TypeTable table;
+    private int id;
+
+    TypeRef(TypeTable table, int id) {
+        this.table = table;
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getKind() {
+        return this.table.nodeField(this.id, 0);
+    }
+
+    public boolean isGeneric() {
+        return getKind() == TypeTable.GENERIC;
+    }
+
+    public boolean isArray() {
+        return getKind() == TypeTable.ARRAY;
+    }
+
+    public boolean isVariable() {
+        return getKind() == TypeTable.VARIABLE;
+    }
+
+    public int getClassId() {
+        return isGeneric() ? this.table.nodeField(this.id, 1) : -1;
+    }
+
+    public Class<?> getRawClass() {
+        if (isArray()) {
+            return getComponent().toJavaType().array(getDimensions()).getType();
+        }
+        return isGeneric() ? this.table.classOf(getClassId()) : toJavaType().getType();
+    }
+
+    public String getName() {
+        if (isGeneric()) {
+            return this.table.className(getClassId());
+        } else if (isVariable()) {
+            return this.table.string(this.table.nodeField(this.id, 1));
+        }
+        StringBuilder name = new StringBuilder(getComponent().getName());
+        for (int i = 0; i < getDimensions(); i++) {
+            name.append("[]");
+        }
+        return name.toString();
+    }
+
+    public int getDimensions() {
+        return isArray() ? this.table.nodeField(this.id, 2) : 0;
+    }
+
+    public TypeRef getComponent() {
+        if (!isArray()) {
+            throw new IllegalStateException("Not an array type");
+        }
+        return this.table.node(this.table.nodeField(this.id, 1));
+    }
+
+    public int getArgumentCount() {
+        return isGeneric() ? this.table.nodeField(this.id, 4) : 0;
+    }
+
+    public TypeRef getArgument(int index) {
+        return child(index, 0, getArgumentCount());
+    }
+
+    public int getUpperCount() {
+        return isVariable() ? this.table.nodeField(this.id, 2) : 0;
+    }
+
+    public TypeRef getUpper(int index) {
+        return child(index, 0, getUpperCount());
+    }
+
+    public int getLowerCount() {
+        return isVariable() ? this.table.nodeField(this.id, 4) - getUpperCount() : 0;
+    }
+
+    public TypeRef getLower(int index) {
+        return child(index, getUpperCount(), getLowerCount());
+    }
+
+    public JavaType toJavaType() {
+        return this.table.materialize(this.id);
+    }
+
+    private TypeRef child(int index, int offset, int count) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return this.table.node(this.table.arg(this.table.nodeField(this.id, 3) + offset + index));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TypeRef)) return false;
+        TypeRef typeRef = (TypeRef) o;
+        return id == typeRef.id && table == typeRef.table;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(this.table) + this.id;
+    }
+
+    @Override
+    public String toString() {
+        if (isArray()) {
+            StringBuilder str = new StringBuilder(getComponent().toString());
+            for (int i = 0; i < getDimensions(); i++) {
+                str.append("[]");
+            }
+            return str.toString();
+        }
+
+        StringBuilder str = new StringBuilder(getName());
+        if (getArgumentCount() != 0) {
+            str.append('<');
+            for (int i = 0; i < getArgumentCount(); i++) {
+                if (i != 0) {
+                    str.append(", ");
+                }
+                str.append(getArgument(i));
+            }
+            str.append('>');
+        }
+        return str.toString();
+    }
+
+}
@@ -0,0 +1,487 @@
+package honeyroasted.javatype.table;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.VariableType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class TypeTable {
+    public static final int GENERIC = 0;
+    public static final int ARRAY = 1;
+    public static final int VARIABLE = 2;
+
+    private static final int MAGIC = 0x4A545431;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_INTS = 14;
+    private static final int CLASS_INTS = 4;
+    private static final int NODE_INTS = 5;
+
+    private ByteBuffer buffer;
+    private ClassLoader loader;
+
+    private int stringCount;
+    private int classCount;
+    private int nodeCount;
+
+    private int stringOffsets;
+    private int stringBytes;
+    private int classes;
+    private int sorted;
+    private int nodes;
+    private int args;
+    private int edges;
+
+    private TypeTable(ByteBuffer buffer, ClassLoader loader) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a type table");
+        }
+
+        this.buffer = buffer;
+        this.loader = loader;
+        this.stringCount = buffer.getInt(8);
+        this.classCount = buffer.getInt(12);
+        this.nodeCount = buffer.getInt(16);
+        this.stringOffsets = buffer.getInt(28);
+        this.stringBytes = buffer.getInt(32);
+        this.classes = buffer.getInt(36);
+        this.sorted = buffer.getInt(40);
+        this.nodes = buffer.getInt(44);
+        this.args = buffer.getInt(48);
+        this.edges = buffer.getInt(52);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static TypeTable of(Collection<? extends Class<?>> classes) {
+        return builder().addAll(classes).build();
+    }
+
+    public static TypeTable wrap(ByteBuffer buffer, ClassLoader loader) {
+        return new TypeTable(buffer, loader);
+    }
+
+    public static TypeTable map(Path path, ClassLoader loader) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TypeTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), loader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer data = this.buffer.duplicate();
+            data.clear();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getByteSize() {
+        return this.buffer.capacity();
+    }
+
+    public int classId(Class<?> cls) {
+        return classId(cls.getName());
+    }
+
+    public int classId(String name) {
+        int low = 0;
+        int high = this.classCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = this.buffer.getInt(this.sorted + mid * 4);
+            int cmp = compare(classField(id, 0), name);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    public String className(int classId) {
+        return string(classField(classId, 0));
+    }
+
+    public Class<?> classOf(int classId) {
+        try {
+            return JavaTypes.forName(className(classId), this.loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot load " + className(classId), e);
+        }
+    }
+
+    public boolean isRegistered(int classId) {
+        return classField(classId, 1) != -1;
+    }
+
+    public TypeRef parameterized(int classId) {
+        int node = classField(classId, 1);
+        return node == -1 ? null : node(node);
+    }
+
+    public int supertypeCount(int classId) {
+        return classField(classId, 3);
+    }
+
+    public TypeRef supertype(int classId, int index) {
+        if (index < 0 || index >= supertypeCount(classId)) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return node(this.buffer.getInt(this.edges + (classField(classId, 2) + index) * 4));
+    }
+
+    public TypeRef findSupertype(int classId, int parentId) {
+        int start = classField(classId, 2);
+        int count = classField(classId, 3);
+        for (int i = 0; i < count; i++) {
+            int node = this.buffer.getInt(this.edges + (start + i) * 4);
+            if (nodeField(node, 0) == GENERIC && nodeField(node, 1) == parentId) {
+                return node(node);
+            }
+        }
+        return null;
+    }
+
+    public TypeRef node(int id) {
+        if (id < 0 || id >= this.nodeCount) {
+            throw new IndexOutOfBoundsException(String.valueOf(id));
+        }
+        return new TypeRef(this, id);
+    }
+
+    int classField(int classId, int field) {
+        if (classId < 0 || classId >= this.classCount) {
+            throw new IndexOutOfBoundsException(String.valueOf(classId));
+        }
+        return this.buffer.getInt(this.classes + (classId * CLASS_INTS + field) * 4);
+    }
+
+    int nodeField(int node, int field) {
+        return this.buffer.getInt(this.nodes + (node * NODE_INTS + field) * 4);
+    }
+
+    int arg(int index) {
+        return this.buffer.getInt(this.args + index * 4);
+    }
+
+    String string(int id) {
+        int start = this.buffer.getInt(this.stringOffsets + id * 4);
+        int end = this.buffer.getInt(this.stringOffsets + (id + 1) * 4);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer data = this.buffer.duplicate();
+        data.position(this.stringBytes + start);
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compare(int id, String str) {
+        int start = this.stringBytes + this.buffer.getInt(this.stringOffsets + id * 4);
+        int length = this.stringBytes + this.buffer.getInt(this.stringOffsets + (id + 1) * 4) - start;
+        int limit = Math.min(length, str.length());
+        for (int i = 0; i < limit; i++) {
+            byte b = this.buffer.get(start + i);
+            if (b < 0) {
+                return string(id).compareTo(str);
+            } else if (b != str.charAt(i)) {
+                return b - str.charAt(i);
+            }
+        }
+
+        for (int i = limit; i < length; i++) {
+            if (this.buffer.get(start + i) < 0) {
+                return string(id).compareTo(str);
+            }
+        }
+        return length - str.length();
+    }
+
+    JavaType materialize(int node) {
+        int kind = nodeField(node, 0);
+        int start = nodeField(node, 3);
+        int count = nodeField(node, 4);
+
+        if (kind == GENERIC) {
+            JavaType[] generics = new JavaType[count];
+            for (int i = 0; i < count; i++) {
+                generics[i] = materialize(arg(start + i));
+            }
+            return GenericType.of(classOf(nodeField(node, 1)), generics);
+        } else if (kind == ARRAY) {
+            return materialize(nodeField(node, 1)).array(nodeField(node, 2));
+        }
+
+        int upper = nodeField(node, 2);
+        VariableType.Builder builder = VariableType.builder(string(nodeField(node, 1)));
+        for (int i = 0; i < count; i++) {
+            JavaType bound = materialize(arg(start + i));
+            if (i < upper) {
+                builder.upper(bound);
+            } else {
+                builder.lower(bound);
+            }
+        }
+        return builder.build();
+    }
+
+    public static final class Builder {
+        private Set<Class<?>> registered = new LinkedHashSet<>();
+        private ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+        private Map<String, Integer> stringIds = new HashMap<>();
+        private List<String> strings = new ArrayList<>();
+
+        private Map<Class<?>, Integer> classIds = new HashMap<>();
+        private List<Class<?>> classList = new ArrayList<>();
+        private IntList classRecords = new IntList();
+
+        private Map<JavaType, Integer> nodeIds = new HashMap<>();
+        private IntList nodeRecords = new IntList();
+        private IntList argList = new IntList();
+        private IntList edgeList = new IntList();
+
+        private Builder() {
+
+        }
+
+        public Builder add(Class<?> cls) {
+            this.registered.add(cls);
+            return this;
+        }
+
+        public Builder addAll(Collection<? extends Class<?>> classes) {
+            this.registered.addAll(classes);
+            return this;
+        }
+
+        public Builder loader(ClassLoader loader) {
+            this.loader = loader;
+            return this;
+        }
+
+        public TypeTable build() {
+            for (Class<?> cls : this.registered) {
+                int id = classId(cls);
+                List<GenericType> supertypes = JavaTypes.ofParameterized(cls).supertypes().collect(Collectors.toList());
+                int parameterized = node(supertypes.get(0));
+
+                int[] edges = new int[supertypes.size() - 1];
+                for (int i = 1; i < supertypes.size(); i++) {
+                    edges[i - 1] = node(supertypes.get(i));
+                }
+
+                this.classRecords.set(id * CLASS_INTS + 1, parameterized);
+                this.classRecords.set(id * CLASS_INTS + 2, this.edgeList.size());
+                this.classRecords.set(id * CLASS_INTS + 3, edges.length);
+                this.edgeList.addAll(edges);
+            }
+
+            return new TypeTable(encode(), this.loader);
+        }
+
+        private ByteBuffer encode() {
+            byte[][] encoded = new byte[this.strings.size()][];
+            int stringSize = 0;
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = this.strings.get(i).getBytes(StandardCharsets.UTF_8);
+                stringSize += encoded[i].length;
+            }
+
+            Integer[] order = new Integer[this.classList.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> this.classList.get(a).getName().compareTo(this.classList.get(b).getName()));
+
+            int stringOffsets = HEADER_INTS * 4;
+            int stringBytes = stringOffsets + (encoded.length + 1) * 4;
+            int classes = align(stringBytes + stringSize);
+            int sorted = classes + this.classRecords.size() * 4;
+            int nodes = sorted + order.length * 4;
+            int args = nodes + this.nodeRecords.size() * 4;
+            int edges = args + this.argList.size() * 4;
+            int size = edges + this.edgeList.size() * 4;
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+            buffer.putInt(MAGIC).putInt(VERSION)
+                    .putInt(encoded.length).putInt(this.classList.size()).putInt(this.nodeRecords.size() / NODE_INTS)
+                    .putInt(this.argList.size()).putInt(this.edgeList.size())
+                    .putInt(stringOffsets).putInt(stringBytes).putInt(classes).putInt(sorted)
+                    .putInt(nodes).putInt(args).putInt(edges);
+
+            int offset = 0;
+            for (byte[] bytes : encoded) {
+                buffer.putInt(offset);
+                offset += bytes.length;
+            }
+            buffer.putInt(offset);
+            for (byte[] bytes : encoded) {
+                buffer.put(bytes);
+            }
+
+            buffer.position(classes);
+            this.classRecords.writeTo(buffer);
+            for (Integer id : order) {
+                buffer.putInt(id);
+            }
+            this.nodeRecords.writeTo(buffer);
+            this.argList.writeTo(buffer);
+            this.edgeList.writeTo(buffer);
+
+            buffer.clear();
+            return buffer;
+        }
+
+        private static int align(int offset) {
+            return (offset + 3) & ~3;
+        }
+
+        private int string(String str) {
+            Integer id = this.stringIds.get(str);
+            if (id == null) {
+                id = this.strings.size();
+                this.strings.add(str);
+                this.stringIds.put(str, id);
+            }
+            return id;
+        }
+
+        private int classId(Class<?> cls) {
+            Integer id = this.classIds.get(cls);
+            if (id == null) {
+                id = this.classList.size();
+                this.classList.add(cls);
+                this.classIds.put(cls, id);
+                this.classRecords.add(string(cls.getName()));
+                this.classRecords.add(-1);
+                this.classRecords.add(0);
+                this.classRecords.add(0);
+            }
+            return id;
+        }
+
+        private int node(JavaType type) {
+            Integer existing = this.nodeIds.get(type);
+            if (existing != null) {
+                return existing;
+            }
+
+            int kind;
+            int a;
+            int b = 0;
+            int[] children;
+            if (type instanceof GenericType) {
+                GenericType generic = (GenericType) type;
+                kind = GENERIC;
+                a = classId(generic.getType());
+                children = nodes(generic.getGenerics());
+            } else if (type instanceof ArrayType) {
+                ArrayType array = (ArrayType) type;
+                kind = ARRAY;
+                a = node(array.getAbsoluteComponent());
+                b = array.getDimensions();
+                children = new int[0];
+            } else if (type instanceof VariableType) {
+                VariableType var = (VariableType) type;
+                kind = VARIABLE;
+                a = string(var.getName());
+                b = var.getUpper().size();
+                int[] upper = nodes(var.getUpper());
+                int[] lower = nodes(var.getLower());
+                children = Arrays.copyOf(upper, upper.length + lower.length);
+                System.arraycopy(lower, 0, children, upper.length, lower.length);
+            } else {
+                throw new IllegalArgumentException("Unsupported type: " + type);
+            }
+
+            int id = this.nodeRecords.size() / NODE_INTS;
+            this.nodeRecords.add(kind);
+            this.nodeRecords.add(a);
+            this.nodeRecords.add(b);
+            this.nodeRecords.add(this.argList.size());
+            this.nodeRecords.add(children.length);
+            this.argList.addAll(children);
+            this.nodeIds.put(type, id);
+            return id;
+        }
+
+        private int[] nodes(List<JavaType> types) {
+            int[] ids = new int[types.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = node(types.get(i));
+            }
+            return ids;
+        }
+
+    }
+
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        private void add(int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.values.length * 2);
+            }
+            this.values[this.size++] = value;
+        }
+
+        private void addAll(int[] values) {
+            for (int value : values) {
+                add(value);
+            }
+        }
+
+        private void set(int index, int value) {
+            this.values[index] = value;
+        }
+
+        private int size() {
+            return this.size;
+        }
+
+        private void writeTo(ByteBuffer buffer) {
+            for (int i = 0; i < this.size; i++) {
+                buffer.putInt(this.values[i]);
+            }
+        }
+
+    }
+
+}
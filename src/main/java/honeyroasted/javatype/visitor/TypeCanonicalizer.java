@@ -0,0 +1,116 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.VariableType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TypeCanonicalizer implements TypeTransformer {
+    private TypeInterner interner;
+
+    public TypeCanonicalizer() {
+        this(null);
+    }
+
+    public TypeCanonicalizer(TypeInterner interner) {
+        this.interner = interner;
+    }
+
+    public JavaType canonicalize(JavaType type) {
+        return TypeWalker.transform(type, this);
+    }
+
+    public MethodType canonicalize(MethodType type) {
+        String prefix = freshPrefix(type);
+        Map<String, String> names = new HashMap<>();
+        for (int i = 0; i < type.getGenerics().size(); i++) {
+            JavaType generic = type.getGenerics().get(i);
+            if (generic.isVariable() && !generic.getName().equals("?")) {
+                names.put(generic.getName(), prefix + i);
+            }
+        }
+
+        MethodType renamed = names.isEmpty() ? type : TypeWalker.transform(type, new TypeTransformer() {
+            @Override
+            public JavaType transformVariable(VariableType var) {
+                String name = names.get(var.getName());
+                return name == null ? var : VariableType.builder(name).uppers(var.getUpper()).lowers(var.getLower()).build();
+            }
+        });
+        return TypeWalker.transform(renamed, this);
+    }
+
+    private static String freshPrefix(MethodType type) {
+        Set<String> used = new HashSet<>();
+        TypeWalker.walk(type, new TypeVisitor() {
+            @Override
+            public boolean visitVariable(VariableType var) {
+                used.add(var.getName());
+                return true;
+            }
+        });
+
+        String prefix = "$T";
+        for (int i = 0; i < type.getGenerics().size(); i++) {
+            if (used.contains(prefix + i)) {
+                prefix = "$" + prefix;
+                i = -1;
+            }
+        }
+        return prefix;
+    }
+
+    @Override
+    public JavaType transformType(JavaType type) {
+        return this.interner == null ? type : this.interner.transformType(type);
+    }
+
+    @Override
+    public JavaType transformVariable(VariableType type) {
+        List<JavaType> upper = reduceUpper(type.getUpper());
+        List<JavaType> lower = distinct(type.getLower());
+
+        if (upper.size() == type.getUpper().size() && lower.size() == type.getLower().size()) {
+            return transformType(type);
+        }
+        return transformType(VariableType.builder(type.getName()).uppers(upper).lowers(lower).build());
+    }
+
+    private static List<JavaType> reduceUpper(List<JavaType> bounds) {
+        List<JavaType> result = new ArrayList<>(bounds.size());
+        for (int i = 0; i < bounds.size(); i++) {
+            JavaType bound = bounds.get(i);
+            if (!bound.equals(JavaTypes.OBJECT) && !result.contains(bound) && !isRedundant(bound, bounds)) {
+                result.add(bound);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isRedundant(JavaType bound, List<JavaType> bounds) {
+        for (JavaType other : bounds) {
+            if (!other.equals(bound) && other.isAssignableTo(bound) && !bound.isAssignableTo(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<JavaType> distinct(List<JavaType> bounds) {
+        List<JavaType> result = new ArrayList<>(bounds.size());
+        for (JavaType bound : bounds) {
+            if (!result.contains(bound)) {
+                result.add(bound);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,40 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.MethodType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TypeInterner implements TypeTransformer {
+    private Map<JavaType, JavaType> types = new ConcurrentHashMap<>();
+
+    public JavaType intern(JavaType type) {
+        return TypeWalker.transform(type, this);
+    }
+
+    public MethodType intern(MethodType type) {
+        return TypeWalker.transform(type, this);
+    }
+
+    public int size() {
+        return this.types.size();
+    }
+
+    public Collection<JavaType> getTypes() {
+        return Collections.unmodifiableCollection(this.types.values());
+    }
+
+    public void clear() {
+        this.types.clear();
+    }
+
+    @Override
+    public JavaType transformType(JavaType type) {
+        JavaType existing = this.types.putIfAbsent(type, type);
+        return existing == null ? type : existing;
+    }
+
+}
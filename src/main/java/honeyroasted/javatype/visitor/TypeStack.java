@@ -0,0 +1,61 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.JavaType;
+
+import java.util.Arrays;
+
+class TypeStack {
+    private Object[] work = new Object[32];
+    private JavaType[] results = new JavaType[32];
+
+    int workSize;
+    int resultSize;
+
+    void push(Object value) {
+        if (this.workSize == this.work.length) {
+            this.work = Arrays.copyOf(this.work, this.work.length * 2);
+        }
+        this.work[this.workSize++] = value;
+    }
+
+    Object pop() {
+        Object value = this.work[--this.workSize];
+        this.work[this.workSize] = null;
+        return value;
+    }
+
+    void pushResult(JavaType type) {
+        if (this.resultSize == this.results.length) {
+            this.results = Arrays.copyOf(this.results, this.results.length * 2);
+        }
+        this.results[this.resultSize++] = type;
+    }
+
+    JavaType popResult() {
+        JavaType value = this.results[--this.resultSize];
+        this.results[this.resultSize] = null;
+        return value;
+    }
+
+    JavaType result(int index) {
+        return this.results[index];
+    }
+
+    void popResults(int count) {
+        Arrays.fill(this.results, this.resultSize - count, this.resultSize, null);
+        this.resultSize -= count;
+    }
+
+    void truncate(int workBase, int resultBase) {
+        if (this.workSize > workBase) {
+            Arrays.fill(this.work, workBase, this.workSize, null);
+            this.workSize = workBase;
+        }
+
+        if (this.resultSize > resultBase) {
+            Arrays.fill(this.results, resultBase, this.resultSize, null);
+            this.resultSize = resultBase;
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.VariableType;
+
+public interface TypeTransformer {
+
+    default JavaType replace(JavaType type) {
+        return type;
+    }
+
+    default JavaType transformType(JavaType type) {
+        return type;
+    }
+
+    default JavaType transformGeneric(GenericType type) {
+        return transformType(type);
+    }
+
+    default JavaType transformArray(ArrayType type) {
+        return transformType(type);
+    }
+
+    default JavaType transformVariable(VariableType type) {
+        return transformType(type);
+    }
+
+}
@@ -0,0 +1,30 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.VariableType;
+
+public interface TypeVisitor {
+
+    default boolean visitType(JavaType type) {
+        return true;
+    }
+
+    default boolean visitGeneric(GenericType type) {
+        return visitType(type);
+    }
+
+    default boolean visitArray(ArrayType type) {
+        return visitType(type);
+    }
+
+    default boolean visitVariable(VariableType type) {
+        return visitType(type);
+    }
+
+    default void leave(JavaType type) {
+
+    }
+
+}
@@ -0,0 +1,221 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.ArrayType;
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.VariableType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TypeWalker {
+    private static final ThreadLocal<TypeStack> STACK = ThreadLocal.withInitial(TypeStack::new);
+    private static final Object EXIT = new Object();
+
+    private TypeWalker() {
+
+    }
+
+    public static void walk(JavaType type, TypeVisitor visitor) {
+        TypeStack stack = STACK.get();
+        int workBase = stack.workSize;
+        int resultBase = stack.resultSize;
+
+        try {
+            stack.push(type);
+            while (stack.workSize > workBase) {
+                Object top = stack.pop();
+                if (top == EXIT) {
+                    visitor.leave((JavaType) stack.pop());
+                } else {
+                    JavaType current = (JavaType) top;
+                    if (visit(current, visitor)) {
+                        stack.push(current);
+                        stack.push(EXIT);
+                        pushChildren(current, stack);
+                    }
+                }
+            }
+        } finally {
+            stack.truncate(workBase, resultBase);
+        }
+    }
+
+    public static void walk(MethodType type, TypeVisitor visitor) {
+        walk(type.getRet(), visitor);
+        for (JavaType param : type.getParams()) {
+            walk(param, visitor);
+        }
+        for (JavaType generic : type.getGenerics()) {
+            walk(generic, visitor);
+        }
+    }
+
+    public static JavaType transform(JavaType type, TypeTransformer transformer) {
+        TypeStack stack = STACK.get();
+        int workBase = stack.workSize;
+        int resultBase = stack.resultSize;
+
+        try {
+            stack.push(type);
+            while (stack.workSize > workBase) {
+                Object top = stack.pop();
+                if (top == EXIT) {
+                    stack.pushResult(rebuild((JavaType) stack.pop(), stack, transformer));
+                } else {
+                    JavaType current = (JavaType) top;
+                    JavaType replaced = transformer.replace(current);
+                    if (replaced != current) {
+                        stack.pushResult(replaced);
+                    } else if (childCount(current) == 0) {
+                        stack.pushResult(post(current, transformer));
+                    } else {
+                        stack.push(current);
+                        stack.push(EXIT);
+                        pushChildren(current, stack);
+                    }
+                }
+            }
+            return stack.popResult();
+        } finally {
+            stack.truncate(workBase, resultBase);
+        }
+    }
+
+    public static MethodType transform(MethodType type, TypeTransformer transformer) {
+        JavaType ret = transform(type.getRet(), transformer);
+        List<JavaType> params = transformAll(type.getParams(), transformer);
+        List<JavaType> generics = transformAll(type.getGenerics(), transformer);
+
+        if (ret == type.getRet() && params == type.getParams() && generics == type.getGenerics()) {
+            return type;
+        }
+
+        return MethodType.builder(ret).params(params).generics(generics).build();
+    }
+
+    private static List<JavaType> transformAll(List<JavaType> types, TypeTransformer transformer) {
+        List<JavaType> result = null;
+        for (int i = 0; i < types.size(); i++) {
+            JavaType original = types.get(i);
+            JavaType transformed = transform(original, transformer);
+            if (result == null && transformed != original) {
+                result = new ArrayList<>(types.subList(0, i));
+            }
+
+            if (result != null) {
+                result.add(transformed);
+            }
+        }
+        return result == null ? types : result;
+    }
+
+    private static boolean visit(JavaType type, TypeVisitor visitor) {
+        if (type instanceof GenericType) {
+            return visitor.visitGeneric((GenericType) type);
+        } else if (type instanceof ArrayType) {
+            return visitor.visitArray((ArrayType) type);
+        } else if (type instanceof VariableType) {
+            return visitor.visitVariable((VariableType) type);
+        } else {
+            return visitor.visitType(type);
+        }
+    }
+
+    private static JavaType post(JavaType type, TypeTransformer transformer) {
+        if (type instanceof GenericType) {
+            return transformer.transformGeneric((GenericType) type);
+        } else if (type instanceof ArrayType) {
+            return transformer.transformArray((ArrayType) type);
+        } else if (type instanceof VariableType) {
+            return transformer.transformVariable((VariableType) type);
+        } else {
+            return transformer.transformType(type);
+        }
+    }
+
+    private static int childCount(JavaType type) {
+        if (type instanceof GenericType) {
+            return ((GenericType) type).genericCount();
+        } else if (type instanceof ArrayType) {
+            return 1;
+        } else if (type instanceof VariableType) {
+            VariableType var = (VariableType) type;
+            return var.getUpper().size() + var.getLower().size();
+        } else {
+            return 0;
+        }
+    }
+
+    private static void pushChildren(JavaType type, TypeStack stack) {
+        if (type instanceof GenericType) {
+            List<JavaType> generics = ((GenericType) type).getGenerics();
+            for (int i = generics.size() - 1; i >= 0; i--) {
+                stack.push(generics.get(i));
+            }
+        } else if (type instanceof ArrayType) {
+            stack.push(((ArrayType) type).getAbsoluteComponent());
+        } else if (type instanceof VariableType) {
+            VariableType var = (VariableType) type;
+            List<JavaType> upper = var.getUpper();
+            List<JavaType> lower = var.getLower();
+            for (int i = lower.size() - 1; i >= 0; i--) {
+                stack.push(lower.get(i));
+            }
+            for (int i = upper.size() - 1; i >= 0; i--) {
+                stack.push(upper.get(i));
+            }
+        }
+    }
+
+    private static JavaType rebuild(JavaType type, TypeStack stack, TypeTransformer transformer) {
+        int count = childCount(type);
+        int start = stack.resultSize - count;
+        JavaType rebuilt = type;
+
+        if (type instanceof GenericType) {
+            GenericType generic = (GenericType) type;
+            if (changed(generic.getGenerics(), stack, start)) {
+                JavaType[] generics = new JavaType[count];
+                for (int i = 0; i < count; i++) {
+                    generics[i] = stack.result(start + i);
+                }
+                rebuilt = GenericType.of(generic.getType(), generics);
+            }
+        } else if (type instanceof ArrayType) {
+            ArrayType array = (ArrayType) type;
+            JavaType component = stack.result(start);
+            if (component != array.getAbsoluteComponent()) {
+                rebuilt = component.array(array.getDimensions());
+            }
+        } else if (type instanceof VariableType) {
+            VariableType var = (VariableType) type;
+            int upperCount = var.getUpper().size();
+            if (changed(var.getUpper(), stack, start) || changed(var.getLower(), stack, start + upperCount)) {
+                VariableType.Builder builder = VariableType.builder(var.getName());
+                for (int i = 0; i < count; i++) {
+                    if (i < upperCount) {
+                        builder.upper(stack.result(start + i));
+                    } else {
+                        builder.lower(stack.result(start + i));
+                    }
+                }
+                rebuilt = builder.build();
+            }
+        }
+
+        stack.popResults(count);
+        return post(rebuilt, transformer);
+    }
+
+    private static boolean changed(List<JavaType> original, TypeStack stack, int start) {
+        for (int i = 0; i < original.size(); i++) {
+            if (original.get(i) != stack.result(start + i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,207 @@
+package honeyroasted.javatype.warmup;
+
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.VariableType;
+import honeyroasted.javatype.visitor.TypeVisitor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AccessProfile {
+    private static final String HEADER = "# javatype access profile v1";
+    private static final ThreadLocal<Boolean> SUSPENDED = ThreadLocal.withInitial(() -> false);
+
+    private Map<Access, LongAdder> accesses = new ConcurrentHashMap<>();
+
+    public void recordParameterized(Class<?> cls) {
+        record(new Access(Kind.PARAMETERIZED, cls.getName(), ""));
+    }
+
+    public void recordHierarchy(Class<?> sub, Class<?> parent) {
+        record(new Access(Kind.HIERARCHY, sub.getName(), parent.getName()));
+    }
+
+    public void recordSupertype(Class<?> sub, Class<?> parent) {
+        record(new Access(Kind.SUPERTYPE, sub.getName(), parent.getName()));
+    }
+
+    public void recordInvoker(Method method) {
+        record(new Access(Kind.INVOKER, method.getDeclaringClass().getName(), methodKey(method)));
+    }
+
+    public void recordInvoker(Method method, MethodType callSite) {
+        record(new Access(Kind.TYPED_INVOKER, method.getDeclaringClass().getName(), methodKey(method) + ' ' +
+                callSite.toInvokeType().toMethodDescriptorString()));
+    }
+
+    public void recordLookup(JavaType query) {
+        if (!hasTypeVariables(query)) {
+            record(new Access(Kind.LOOKUP, query.getSignature(), ""));
+        }
+    }
+
+    public int size() {
+        return this.accesses.size();
+    }
+
+    public boolean isEmpty() {
+        return this.accesses.isEmpty();
+    }
+
+    public void clear() {
+        this.accesses.clear();
+    }
+
+    public List<Access> getAccesses() {
+        List<Access> result = new ArrayList<>(this.accesses.keySet());
+        result.sort(Comparator.comparingLong(this::count).reversed());
+        return result;
+    }
+
+    public long count(Access access) {
+        LongAdder count = this.accesses.get(access);
+        return count == null ? 0 : count.sum();
+    }
+
+    public void write(Path path) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Access access : getAccesses()) {
+                writer.write(access.kind.name() + '\t' + access.owner + '\t' + access.target + '\t' + count(access));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static AccessProfile read(Path path) {
+        AccessProfile profile = new AccessProfile();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 4) {
+                    throw new IllegalArgumentException("Malformed profile line: " + line);
+                }
+
+                LongAdder count = new LongAdder();
+                count.add(Long.parseLong(parts[3]));
+                profile.accesses.put(new Access(Kind.valueOf(parts[0]), parts[1], parts[2]), count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return profile;
+    }
+
+    static String methodKey(Method method) {
+        return method.getName() + java.lang.invoke.MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    static boolean hasTypeVariables(JavaType type) {
+        boolean[] found = new boolean[1];
+        type.accept(new TypeVisitor() {
+            @Override
+            public boolean visitVariable(VariableType var) {
+                if (!var.getName().equals("?")) {
+                    found[0] = true;
+                }
+                return !found[0];
+            }
+        });
+        return found[0];
+    }
+
+    static boolean suspend(boolean suspended) {
+        boolean previous = SUSPENDED.get();
+        SUSPENDED.set(suspended);
+        return previous;
+    }
+
+    private void record(Access access) {
+        if (SUSPENDED.get()) {
+            return;
+        }
+
+        LongAdder count = this.accesses.get(access);
+        if (count == null) {
+            count = this.accesses.computeIfAbsent(access, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public enum Kind {
+        PARAMETERIZED,
+        HIERARCHY,
+        SUPERTYPE,
+        INVOKER,
+        TYPED_INVOKER,
+        LOOKUP
+    }
+
+    public static final class Access {
+        private Kind kind;
+        private String owner;
+        private String target;
+
+        private Access(Kind kind, String owner, String target) {
+            this.kind = kind;
+            this.owner = owner;
+            this.target = target;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Access access = (Access) o;
+            return kind == access.kind &&
+                    Objects.equals(owner, access.owner) &&
+                    Objects.equals(target, access.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, owner, target);
+        }
+
+        @Override
+        public String toString() {
+            return this.kind + " " + this.owner + (this.target.isEmpty() ? "" : " " + this.target);
+        }
+
+    }
+
+}
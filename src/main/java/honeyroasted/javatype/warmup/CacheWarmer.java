@@ -0,0 +1,173 @@
+package honeyroasted.javatype.warmup;
+
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.TypeParser;
+import honeyroasted.javatype.index.TypeMap;
+import honeyroasted.javatype.invoke.MethodInvokers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class CacheWarmer {
+    private static volatile ExecutorService background;
+
+    private CacheWarmer() {
+
+    }
+
+    public static CompletableFuture<Report> replay(AccessProfile profile, ClassLoader loader) {
+        return replay(profile, loader, background());
+    }
+
+    public static CompletableFuture<Report> replay(AccessProfile profile, ClassLoader loader, Executor executor) {
+        return replay(profile, loader, executor, Collections.emptyList());
+    }
+
+    public static CompletableFuture<Report> replay(AccessProfile profile, ClassLoader loader, Collection<? extends TypeMap<?>> maps) {
+        return replay(profile, loader, background(), maps);
+    }
+
+    public static CompletableFuture<Report> replay(AccessProfile profile, ClassLoader loader, Executor executor, Collection<? extends TypeMap<?>> maps) {
+        List<TypeMap<?>> targets = new ArrayList<>(maps);
+        return CompletableFuture.supplyAsync(() -> {
+            Report report = new Report();
+            boolean suspended = AccessProfile.suspend(true);
+            try {
+                for (AccessProfile.Access access : profile.getAccesses()) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        break;
+                    }
+
+                    try {
+                        if (warm(access, loader, targets)) {
+                            report.warmed++;
+                        } else {
+                            report.missed++;
+                        }
+                    } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+                        report.failures.add(access + ": " + e);
+                    }
+                }
+            } finally {
+                AccessProfile.suspend(suspended);
+            }
+            return report;
+        }, executor);
+    }
+
+    private static boolean warm(AccessProfile.Access access, ClassLoader loader, List<TypeMap<?>> maps) throws ClassNotFoundException {
+        if (access.getKind() == AccessProfile.Kind.LOOKUP) {
+            if (maps.isEmpty()) {
+                return false;
+            }
+
+            JavaType query = TypeParser.parse(access.getOwner(), loader);
+            if (AccessProfile.hasTypeVariables(query)) {
+                return false;
+            }
+
+            boolean found = false;
+            for (TypeMap<?> map : maps) {
+                found |= map.find(query).isPresent();
+            }
+            return found;
+        }
+
+        Class<?> owner = JavaTypes.forName(access.getOwner(), loader);
+        switch (access.getKind()) {
+            case PARAMETERIZED:
+                JavaTypes.ofParameterized(owner);
+                return true;
+            case HIERARCHY:
+                return JavaTypes.getHierarchy(owner, JavaTypes.forName(access.getTarget(), loader)).isPresent();
+            case SUPERTYPE:
+                return JavaTypes.resolveGenericsToSupertype(JavaTypes.ofParameterized(owner), JavaTypes.forName(access.getTarget(), loader)).isPresent();
+            case INVOKER: {
+                Method method = findMethod(owner, access.getTarget());
+                if (method != null) {
+                    MethodInvokers.invoker(method);
+                }
+                return method != null;
+            }
+            case TYPED_INVOKER: {
+                int split = access.getTarget().lastIndexOf(' ');
+                Method method = findMethod(owner, access.getTarget().substring(0, split));
+                if (method != null) {
+                    MethodInvokers.invoker(method, TypeParser.parseMethod(access.getTarget().substring(split + 1), loader));
+                }
+                return method != null;
+            }
+            default:
+                return false;
+        }
+    }
+
+    private static Method findMethod(Class<?> owner, String key) {
+        for (Method method : owner.getDeclaredMethods()) {
+            if (key.equals(AccessProfile.methodKey(method))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static ExecutorService background() {
+        ExecutorService executor = background;
+        if (executor == null) {
+            synchronized (CacheWarmer.class) {
+                executor = background;
+                if (executor == null) {
+                    executor = Executors.newSingleThreadExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "javatype-cache-warmer");
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MIN_PRIORITY);
+                        return thread;
+                    });
+                    background = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    public static final class Report {
+        private int warmed;
+        private int missed;
+        private List<String> failures = new ArrayList<>();
+
+        private Report() {
+
+        }
+
+        public int getWarmed() {
+            return warmed;
+        }
+
+        public int getMissed() {
+            return missed;
+        }
+
+        public int getFailed() {
+            return this.failures.size();
+        }
+
+        public List<String> getFailures() {
+            return Collections.unmodifiableList(this.failures);
+        }
+
+        @Override
+        public String toString() {
+            return "warmed " + this.warmed + ", missed " + this.missed + ", failed " + this.failures.size();
+        }
+
+    }
+
+}
@@ -12,6 +12,20 @@ public class Test {
         JavaType b = GenericType.builder(List.class).generic(JavaTypes.of(String.class)).build();
 
         System.out.println(b.isAssignableTo(a));
+
+        JavaType extendsNumber = GenericType.of(List.class, VariableType.builder("?").upper(JavaTypes.of(Number.class)).build());
+        JavaType superInteger = GenericType.of(List.class, VariableType.builder("?").lower(JavaTypes.of(Integer.class)).build());
+        JavaType integers = GenericType.of(List.class, JavaTypes.of(Integer.class));
+        JavaType numbers = GenericType.of(List.class, JavaTypes.of(Number.class));
+        JavaType objects = GenericType.of(List.class, JavaTypes.of(Object.class));
+        JavaType nested = GenericType.of(List.class, integers);
+        JavaType nestedExtendsNumber = GenericType.of(List.class, extendsNumber);
+
+        System.out.println(integers.isAssignableTo(extendsNumber) && numbers.isAssignableTo(extendsNumber) &&
+                !b.isAssignableTo(extendsNumber) && !objects.isAssignableTo(extendsNumber));
+        System.out.println(integers.isAssignableTo(superInteger) && numbers.isAssignableTo(superInteger) &&
+                objects.isAssignableTo(superInteger) && !b.isAssignableTo(superInteger));
+        System.out.println(!nested.isAssignableTo(nestedExtendsNumber) && nestedExtendsNumber.isAssignableTo(nestedExtendsNumber));
     }
 
 }
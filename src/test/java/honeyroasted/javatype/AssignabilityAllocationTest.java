@@ -0,0 +1,98 @@
+package honeyroasted.javatype;
+
+import honeyroasted.javatype.invoke.MethodInvokers;
+import honeyroasted.javatype.warmup.AccessProfile;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class AssignabilityAllocationTest {
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static int sink;
+
+    public static void main(String[] args) throws NoSuchMethodException {
+        JavaType string = JavaTypes.of(String.class);
+        JavaType wildcard = VariableType.builder("?").build();
+        JavaType extendsNumber = VariableType.builder("?").upper(JavaTypes.of(Number.class)).build();
+        JavaType superInteger = VariableType.builder("?").lower(JavaTypes.of(Integer.class)).build();
+
+        JavaType[][] pairs = {
+                {string, JavaTypes.of(CharSequence.class)},
+                {string, JavaTypes.of(Integer.class)},
+                {GenericType.of(ArrayList.class, string), GenericType.of(List.class, string)},
+                {GenericType.of(List.class, string), GenericType.of(Collection.class, wildcard)},
+                {GenericType.of(List.class, JavaTypes.of(Integer.class)), GenericType.of(List.class, extendsNumber)},
+                {GenericType.of(List.class, JavaTypes.of(Number.class)), GenericType.of(List.class, superInteger)},
+                {GenericType.of(Map.class, string, GenericType.of(List.class, string)), GenericType.of(Map.class, string, GenericType.of(List.class, wildcard))},
+                {JavaTypes.of(String[][].class), JavaTypes.of(CharSequence[][].class)},
+                {VariableType.builder("T").upper(string).build(), JavaTypes.of(CharSequence.class)},
+                {extendsNumber, superInteger}
+        };
+
+        MethodType method = MethodType.builder(string).params(string, GenericType.of(List.class, string)).build();
+        MethodType target = MethodType.builder(JavaTypes.of(CharSequence.class)).params(string, GenericType.of(List.class, wildcard)).build();
+
+        Method size = List.class.getMethod("size");
+
+        AccessProfile profile = new AccessProfile();
+        JavaTypes.setProfile(profile);
+
+        for (int i = 0; i < WARMUP; i++) {
+            run(pairs, method, target, size);
+        }
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long baselineBefore = bean.getThreadAllocatedBytes(thread);
+        long baselineAfter = bean.getThreadAllocatedBytes(thread);
+        long overhead = baselineAfter - baselineBefore;
+
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) {
+            run(pairs, method, target, size);
+        }
+        JavaTypes.setProfile(null);
+        long allocated = bean.getThreadAllocatedBytes(thread) - before - overhead;
+
+        if (allocated > 0) {
+            throw new AssertionError("isAssignableTo and cached lookups allocated " + allocated + " bytes over " + ITERATIONS + " iterations");
+        }
+        System.out.println("isAssignableTo and cached lookups allocated no memory over " + ITERATIONS + " iterations (" + sink + ", " + profile.size() + " profiled)");
+    }
+
+    private static void run(JavaType[][] pairs, MethodType method, MethodType target, Method size) {
+        for (JavaType[] pair : pairs) {
+            if (pair[0].isAssignableTo(pair[1])) {
+                sink++;
+            }
+
+            if (pair[0].isAssignableTo(pair[1], 0)) {
+                sink++;
+            }
+        }
+
+        if (method.isAssignableTo(target)) {
+            sink++;
+        }
+
+        if (JavaTypes.ofParameterized(ArrayList.class).genericCount() == 1) {
+            sink++;
+        }
+
+        if (JavaTypes.getHierarchy(ArrayList.class, Collection.class).isPresent()) {
+            sink++;
+        }
+
+        if (MethodInvokers.invoker(size) != null) {
+            sink++;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package honeyroasted.javatype;
+
+import honeyroasted.javatype.index.TypeMap;
+import honeyroasted.javatype.invoke.MethodInvokers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.instrument.ClassDefinition;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class InvalidationTest {
+    private static volatile Instrumentation instrumentation;
+
+    public static void premain(String args, Instrumentation inst) {
+        instrumentation = inst;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (instrumentation == null || !instrumentation.isRedefineClassesSupported()) {
+            throw new AssertionError("InvalidationTest must run with itself as a -javaagent");
+        }
+
+        byte[] original = bytes(Base.class);
+        byte[] redefined = patch(original, "List<Ljava/lang/String;>", "List<Ljava/lang/Object;>");
+        MethodType strings = MethodType.builder(GenericType.of(List.class, JavaTypes.of(String.class))).build();
+
+        TypeMap<String> subtypes = new TypeMap<>();
+        subtypes.put(JavaTypes.of(Base.class), "base");
+        check(subtypes.findValue(JavaTypes.of(Sub.class)).equals(Optional.of("base")), "TypeMap did not find Base for Sub");
+
+        TypeMap<String> comparables = new TypeMap<>();
+        comparables.put(GenericType.of(Comparable.class, JavaTypes.of(Base.class)), "comparable");
+        TypeMap.Match<String> memo = comparables.find(JavaTypes.of(Peer.class)).get();
+        check(comparables.find(JavaTypes.of(Peer.class)).get() == memo, "TypeMap did not memoize Peer");
+
+        check(accepts(strings), "Sub.names() rejected List<String> before redefinition");
+
+        instrumentation.redefineClasses(new ClassDefinition(Base.class, redefined));
+        Set<Class<?>> affected = JavaTypes.invalidate(Base.class);
+        check(affected.contains(Sub.class), "First invalidation of Base did not reach Sub: " + affected);
+        check(!accepts(strings), "Sub.names() still accepted List<String> after Base returned List<Object>");
+        check(comparables.find(JavaTypes.of(Peer.class)).get() != memo, "TypeMap kept a memo derived from Comparable<Base>");
+
+        instrumentation.redefineClasses(new ClassDefinition(Base.class, original));
+        affected = JavaTypes.invalidate(Base.class);
+        check(affected.contains(Sub.class), "Second invalidation of Base did not reach Sub: " + affected);
+        check(accepts(strings), "Sub.names() still rejected List<String> after Base was restored");
+
+        System.out.println("Invalidation tests passed");
+    }
+
+    private static boolean accepts(MethodType callSite) throws NoSuchMethodException {
+        Method names = Sub.class.getMethod("names");
+        try {
+            MethodInvokers.invoker(names, callSite);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static byte[] bytes(Class<?> cls) throws IOException {
+        String name = cls.getName();
+        try (InputStream in = cls.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] patch(byte[] bytes, String target, String replacement) {
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        if (target.length() != replacement.length() || !content.contains(target)) {
+            throw new IllegalArgumentException("Cannot patch " + target + " to " + replacement);
+        }
+        return content.replace(target, replacement).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static class Base {
+        public List<String> names() {
+            return null;
+        }
+    }
+
+    public static class Sub extends Base {
+
+    }
+
+    public static class Peer implements Comparable<Base> {
+        @Override
+        public int compareTo(Base o) {
+            return 0;
+        }
+    }
+
+}
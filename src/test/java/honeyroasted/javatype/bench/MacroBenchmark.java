@@ -0,0 +1,512 @@
+package honeyroasted.javatype.bench;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class MacroBenchmark {
+    private static final String[] KINDS = {"of", "resolveToSupertype", "isAssignableTo", "resolveVariables"};
+    private static final int[] WEIGHTS = {40, 25, 25, 10};
+    private static final int SAMPLES = 1 << 18;
+
+    private static volatile int sink;
+
+    public static void main(String[] args) throws Exception {
+        List<String> jars = new ArrayList<>();
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int seconds = 5;
+        int warmup = 5;
+        int operations = 200_000;
+        String out = "build/macro-benchmark.json";
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--jar":
+                    jars.add(args[++i]);
+                    break;
+                case "--threads":
+                    maxThreads = Integer.parseInt(args[++i]);
+                    break;
+                case "--seconds":
+                    seconds = Integer.parseInt(args[++i]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++i]);
+                    break;
+                case "--operations":
+                    operations = Integer.parseInt(args[++i]);
+                    break;
+                case "--out":
+                    out = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        try (Corpus corpus = new Corpus()) {
+            corpus.addJavaBase();
+            for (String jar : jars) {
+                corpus.addJar(new File(jar));
+            }
+            System.out.println("Corpus: " + corpus.classes.size() + " classes, " + corpus.methods + " methods, " +
+                    corpus.fields + " fields, " + corpus.types.size() + " signature types");
+
+            Operation[] workload = corpus.workload(operations, new Random(42));
+            System.out.println("Workload: " + workload.length + " operations");
+
+            run(workload, 1, warmup);
+
+            List<Result> results = new ArrayList<>();
+            for (int threads : threadCounts(maxThreads)) {
+                Result result = run(workload, threads, seconds);
+                System.out.println(result);
+                results.add(result);
+            }
+
+            Path path = Paths.get(out);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                writeJson(writer, corpus, workload.length, results);
+            }
+            System.out.println("Wrote " + path.toAbsolutePath());
+        }
+    }
+
+    private static List<Integer> threadCounts(int max) {
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 1; i < max; i *= 2) {
+            counts.add(i);
+        }
+        counts.add(max);
+        return counts;
+    }
+
+    private static Result run(Operation[] workload, int threads, int seconds) throws InterruptedException {
+        Worker[] workers = new Worker[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(workload, i * (workload.length / threads), start, deadline);
+            workers[i].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        return new Result(threads, elapsed, workers);
+    }
+
+    private static void writeJson(Writer writer, Corpus corpus, int operations, List<Result> results) throws IOException {
+        writer.write("{\n");
+        writer.write("  \"jdk\": \"" + System.getProperty("java.version") + "\",\n");
+        writer.write("  \"corpus\": {\"classes\": " + corpus.classes.size() + ", \"methods\": " + corpus.methods +
+                ", \"fields\": " + corpus.fields + ", \"types\": " + corpus.types.size() + ", \"operations\": " + operations + "},\n");
+        writer.write("  \"results\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            writer.write("    {\"threads\": " + result.threads +
+                    ", \"operations\": " + result.total.count +
+                    ", \"throughput\": " + String.format("%.1f", result.throughput()) +
+                    ", \"p50Nanos\": " + result.total.percentile(0.5) +
+                    ", \"p99Nanos\": " + result.total.percentile(0.99) +
+                    ", \"allocatedBytesPerOp\": " + String.format("%.1f", result.allocatedPerOp()) +
+                    ", \"kinds\": {");
+            for (int k = 0; k < KINDS.length; k++) {
+                Stats stats = result.kinds[k];
+                writer.write("\"" + KINDS[k] + "\": {\"operations\": " + stats.count +
+                        ", \"p50Nanos\": " + stats.percentile(0.5) +
+                        ", \"p99Nanos\": " + stats.percentile(0.99) + "}");
+                if (k != KINDS.length - 1) {
+                    writer.write(", ");
+                }
+            }
+            writer.write("}}");
+            writer.write(i != results.size() - 1 ? ",\n" : "\n");
+        }
+        writer.write("  ]\n");
+        writer.write("}\n");
+    }
+
+    private interface Operation {
+        int kind();
+
+        Object run();
+    }
+
+    private static final class Worker extends Thread {
+        private Operation[] workload;
+        private int offset;
+        private CountDownLatch start;
+        private long deadline;
+
+        private Stats total = new Stats();
+        private Stats[] kinds = new Stats[KINDS.length];
+        private long allocated;
+
+        private Worker(Operation[] workload, int offset, CountDownLatch start, long deadline) {
+            this.workload = workload;
+            this.offset = offset;
+            this.start = start;
+            this.deadline = deadline;
+            for (int i = 0; i < this.kinds.length; i++) {
+                this.kinds[i] = new Stats();
+            }
+        }
+
+        @Override
+        public void run() {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            try {
+                this.start.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long allocatedBefore = bean.getThreadAllocatedBytes(this.getId());
+            int hash = 0;
+            int index = this.offset;
+            while (true) {
+                for (int batch = 0; batch < 256; batch++) {
+                    Operation operation = this.workload[index];
+                    index = index + 1 == this.workload.length ? 0 : index + 1;
+
+                    long begin = System.nanoTime();
+                    Object result = operation.run();
+                    long latency = System.nanoTime() - begin;
+
+                    hash += System.identityHashCode(result);
+                    this.total.record(latency);
+                    this.kinds[operation.kind()].record(latency);
+                }
+
+                if (System.nanoTime() >= this.deadline) {
+                    break;
+                }
+            }
+            this.allocated = bean.getThreadAllocatedBytes(this.getId()) - allocatedBefore;
+            sink += hash;
+        }
+
+    }
+
+    private static final class Stats {
+        private long[] samples = new long[SAMPLES];
+        private long count;
+        private Random random = new Random(7);
+
+        private void record(long latency) {
+            if (this.count < SAMPLES) {
+                this.samples[(int) this.count] = latency;
+            } else {
+                long slot = (long) (this.random.nextDouble() * (this.count + 1));
+                if (slot < SAMPLES) {
+                    this.samples[(int) slot] = latency;
+                }
+            }
+            this.count++;
+        }
+
+        private void merge(Stats other) {
+            int mine = (int) Math.min(this.count, SAMPLES);
+            int theirs = (int) Math.min(other.count, SAMPLES);
+            long[] ours = shuffled(this.samples, mine);
+            long[] others = shuffled(other.samples, theirs);
+
+            long total = this.count + other.count;
+            long[] merged = new long[SAMPLES];
+            int size = (int) Math.min(total, SAMPLES);
+            int a = 0;
+            int b = 0;
+            for (int i = 0; i < size; i++) {
+                boolean fromOurs = b >= theirs || a < mine && this.random.nextDouble() * total < this.count;
+                merged[i] = fromOurs ? ours[a++] : others[b++];
+            }
+
+            this.samples = merged;
+            this.count = total;
+        }
+
+        private long[] shuffled(long[] samples, int size) {
+            long[] copy = Arrays.copyOf(samples, size);
+            for (int i = size - 1; i > 0; i--) {
+                int j = this.random.nextInt(i + 1);
+                long tmp = copy[i];
+                copy[i] = copy[j];
+                copy[j] = tmp;
+            }
+            return copy;
+        }
+
+        private long percentile(double percentile) {
+            int size = (int) Math.min(this.count, SAMPLES);
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(this.samples, size);
+            Arrays.sort(sorted);
+            return sorted[Math.min(size - 1, (int) (percentile * size))];
+        }
+
+    }
+
+    private static final class Result {
+        private int threads;
+        private long elapsed;
+        private Stats total = new Stats();
+        private Stats[] kinds = new Stats[KINDS.length];
+        private long allocated;
+
+        private Result(int threads, long elapsed, Worker[] workers) {
+            this.threads = threads;
+            this.elapsed = elapsed;
+            for (int i = 0; i < this.kinds.length; i++) {
+                this.kinds[i] = new Stats();
+            }
+
+            for (Worker worker : workers) {
+                this.total.merge(worker.total);
+                for (int i = 0; i < this.kinds.length; i++) {
+                    this.kinds[i].merge(worker.kinds[i]);
+                }
+                this.allocated += worker.allocated;
+            }
+        }
+
+        private double throughput() {
+            return this.total.count / (this.elapsed / 1e9);
+        }
+
+        private double allocatedPerOp() {
+            return this.total.count == 0 ? 0 : (double) this.allocated / this.total.count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("threads=%d ops/s=%.0f p50=%dns p99=%dns alloc/op=%.1fB", this.threads, throughput(),
+                    this.total.percentile(0.5), this.total.percentile(0.99), allocatedPerOp());
+        }
+
+    }
+
+    private static final class Corpus implements Closeable {
+        private List<URLClassLoader> loaders = new ArrayList<>();
+        private List<Class<?>> classes = new ArrayList<>();
+        private List<Type> types = new ArrayList<>();
+        private List<Type[]> members = new ArrayList<>();
+        private int methods;
+        private int fields;
+
+        private void addJavaBase() throws IOException {
+            FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+            Path root = jrt.getPath("/modules/java.base");
+            List<String> names;
+            try (Stream<Path> paths = Files.walk(root)) {
+                names = paths.map(p -> root.relativize(p).toString())
+                        .filter(MacroBenchmark::isClassFile)
+                        .map(MacroBenchmark::className)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+            addAll(names, ClassLoader.getSystemClassLoader());
+        }
+
+        private void addJar(File file) throws IOException {
+            List<String> names = new ArrayList<>();
+            try (JarFile jar = new JarFile(file)) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    if (isClassFile(name)) {
+                        names.add(className(name));
+                    }
+                }
+            }
+            Collections.sort(names);
+            URLClassLoader loader = new URLClassLoader(new URL[]{file.toURI().toURL()}, MacroBenchmark.class.getClassLoader());
+            this.loaders.add(loader);
+            addAll(names, loader);
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (URLClassLoader loader : this.loaders) {
+                loader.close();
+            }
+        }
+
+        private void addAll(List<String> names, ClassLoader loader) {
+            for (String name : names) {
+                try {
+                    Class<?> cls = Class.forName(name, false, loader);
+                    if (Modifier.isPublic(cls.getModifiers())) {
+                        add(cls);
+                    }
+                } catch (Throwable ignored) {
+                    // Classes that fail to load or link are not part of the corpus
+                }
+            }
+        }
+
+        private void add(Class<?> cls) {
+            List<Type> signatures = new ArrayList<>();
+            for (Method method : cls.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers()) && !method.isSynthetic()) {
+                    signatures.add(method.getGenericReturnType());
+                    Collections.addAll(signatures, method.getGenericParameterTypes());
+                    this.methods++;
+                }
+            }
+
+            for (Field field : cls.getDeclaredFields()) {
+                if (Modifier.isPublic(field.getModifiers()) && !field.isSynthetic()) {
+                    signatures.add(field.getGenericType());
+                    this.fields++;
+                }
+            }
+
+            this.classes.add(cls);
+            this.types.addAll(signatures);
+            this.members.add(signatures.toArray(new Type[0]));
+        }
+
+        private Operation[] workload(int size, Random random) {
+            List<JavaType> converted = new ArrayList<>();
+            for (Type type : this.types) {
+                converted.add(JavaTypes.of(type));
+            }
+
+            List<Operation> operations = new ArrayList<>();
+            while (operations.size() < size) {
+                int kind = pick(random);
+                Operation operation = create(kind, random, converted);
+                if (operation != null && validate(operation)) {
+                    operations.add(operation);
+                }
+            }
+            return operations.toArray(new Operation[0]);
+        }
+
+        private Operation create(int kind, Random random, List<JavaType> converted) {
+            switch (kind) {
+                case 0: {
+                    Type type = this.types.get(random.nextInt(this.types.size()));
+                    return operation(kind, () -> JavaTypes.of(type));
+                }
+                case 1: {
+                    GenericType sub = JavaTypes.ofParameterized(this.classes.get(random.nextInt(this.classes.size())));
+                    List<Class<?>> supertypes = new ArrayList<>(JavaTypes.getSupertypes(sub.getType()));
+                    Class<?> parent = supertypes.get(random.nextInt(supertypes.size()));
+                    return operation(kind, () -> sub.resolveToSupertype(parent));
+                }
+                case 2: {
+                    JavaType source = converted.get(random.nextInt(converted.size()));
+                    JavaType target = converted.get(random.nextInt(converted.size()));
+                    if (source instanceof GenericType && random.nextBoolean()) {
+                        List<GenericType> supertypes = ((GenericType) source).supertypes().collect(Collectors.toList());
+                        target = supertypes.get(random.nextInt(supertypes.size()));
+                    }
+                    JavaType finalTarget = target;
+                    return operation(kind, () -> source.isAssignableTo(finalTarget));
+                }
+                default: {
+                    int index = random.nextInt(this.classes.size());
+                    Class<?> owner = this.classes.get(index);
+                    Type[] signatures = this.members.get(index);
+                    if (signatures.length == 0 || owner.getTypeParameters().length == 0) {
+                        return null;
+                    }
+
+                    GenericType paramed = JavaTypes.ofParameterized(owner);
+                    JavaType[] arguments = new JavaType[paramed.genericCount()];
+                    Arrays.fill(arguments, JavaTypes.of(String.class));
+                    GenericType filled = GenericType.of(owner, arguments);
+                    JavaType member = JavaTypes.of(signatures[random.nextInt(signatures.length)]);
+                    return operation(kind, () -> member.resolveVariables(filled, paramed));
+                }
+            }
+        }
+
+        private static boolean validate(Operation operation) {
+            try {
+                operation.run();
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private static int pick(Random random) {
+            int roll = random.nextInt(100);
+            for (int i = 0; i < WEIGHTS.length; i++) {
+                roll -= WEIGHTS[i];
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return WEIGHTS.length - 1;
+        }
+
+        private static Operation operation(int kind, Supplier<Object> body) {
+            return new Operation() {
+                @Override
+                public int kind() {
+                    return kind;
+                }
+
+                @Override
+                public Object run() {
+                    return body.get();
+                }
+            };
+        }
+
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.endsWith("module-info.class") && !name.endsWith("package-info.class");
+    }
+
+    private static String className(String path) {
+        return path.substring(0, path.length() - ".class".length()).replace('/', '.');
+    }
+
+}
@@ -0,0 +1,139 @@
+package honeyroasted.javatype.invoke;
+
+import honeyroasted.javatype.GenericType;
+import honeyroasted.javatype.JavaType;
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.MethodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class MethodInvokersTest {
+
+    public static void main(String[] args) throws Throwable {
+        genericReturn();
+        boxedReturn();
+        primitiveArguments();
+        rejectsIncompatibleReturn();
+        genericArguments();
+        objectReturn();
+        varargs();
+        System.out.println("MethodInvokers tests passed");
+    }
+
+    private static void genericReturn() throws Throwable {
+        Method get = List.class.getMethod("get", int.class);
+        MethodType callSite = MethodType.builder(JavaTypes.of(String.class)).param(JavaTypes.of(int.class)).build();
+
+        MethodHandle handle = MethodInvokers.invoker(get, callSite);
+        String value = (String) handle.invokeExact((List) Arrays.asList("a", "b"), 1);
+        check("b".equals(value), "List.get(int) as String (int) returned " + value);
+    }
+
+    private static void boxedReturn() throws Throwable {
+        Method get = List.class.getMethod("get", int.class);
+        MethodType callSite = MethodType.builder(JavaTypes.of(int.class)).param(JavaTypes.of(int.class)).build();
+
+        MethodHandle handle = MethodInvokers.invoker(get, callSite);
+        int value = (int) handle.invokeExact((List) Arrays.asList(4, 5), 0);
+        check(value == 4, "List.get(int) as int (int) returned " + value);
+
+        Method hash = Objects.class.getMethod("hashCode", Object.class);
+        MethodType boxed = MethodType.builder(JavaTypes.of(Integer.class)).param(JavaTypes.of(int.class)).build();
+        Integer result = (Integer) MethodInvokers.invoker(hash, boxed).invokeExact(7);
+        check(result == 7, "Objects.hashCode(Object) as Integer (int) returned " + result);
+    }
+
+    private static void primitiveArguments() throws Throwable {
+        Method max = Math.class.getMethod("max", long.class, long.class);
+        MethodType callSite = MethodType.builder(JavaTypes.of(double.class)).params(JavaTypes.of(int.class), JavaTypes.of(Integer.class)).build();
+
+        double value = (double) MethodInvokers.invoker(max, callSite).invokeExact(3, (Integer) 9);
+        check(value == 9.0, "Math.max(long, long) as double (int, Integer) returned " + value);
+    }
+
+    private static void rejectsIncompatibleReturn() throws Throwable {
+        Method length = String.class.getMethod("length");
+        MethodType callSite = MethodType.builder(JavaTypes.of(String.class)).build();
+
+        try {
+            MethodInvokers.invoker(length, callSite);
+            throw new AssertionError("String.length() accepted a String return type");
+        } catch (IllegalArgumentException expected) {
+
+        }
+    }
+
+    private static void genericArguments() throws Throwable {
+        Method unmodifiable = Collections.class.getMethod("unmodifiableList", List.class);
+        JavaType strings = GenericType.of(List.class, JavaTypes.of(String.class));
+        JavaType integers = GenericType.of(List.class, JavaTypes.of(Integer.class));
+
+        MethodType valid = MethodType.builder(strings).param(strings).build();
+        List<String> value = (List<String>) MethodInvokers.invoker(unmodifiable, valid).invokeExact((List) Arrays.asList("a"));
+        check(value.equals(Arrays.asList("a")), "Collections.unmodifiableList as List<String> (List<String>) returned " + value);
+
+        rejects(unmodifiable, MethodType.builder(integers).param(strings).build());
+
+        Method sum = MethodInvokersTest.class.getDeclaredMethod("sum", List.class);
+        rejects(sum, MethodType.builder(JavaTypes.of(int.class)).param(strings).build());
+        int total = (int) MethodInvokers.invoker(sum, MethodType.builder(JavaTypes.of(int.class)).param(integers).build()).invokeExact((List) Arrays.asList(1, 2));
+        check(total == 3, "sum(List<Integer>) returned " + total);
+    }
+
+    private static void objectReturn() throws Throwable {
+        Method get = Map.class.getMethod("get", Object.class);
+        MethodType variable = MethodType.builder(JavaTypes.of(String.class)).param(JavaTypes.of(Object.class)).build();
+        String value = (String) MethodInvokers.invoker(get, variable).invokeExact((Map) Collections.singletonMap("k", "v"), (Object) "k");
+        check("v".equals(value), "Map.get(Object) as String (Object) returned " + value);
+
+        Method element = Array.class.getMethod("get", Object.class, int.class);
+        rejects(element, MethodType.builder(JavaTypes.of(String.class)).params(JavaTypes.of(Object.class), JavaTypes.of(int.class)).build());
+    }
+
+    private static void varargs() throws Throwable {
+        Method format = String.class.getMethod("format", String.class, Object[].class);
+        MethodType callSite = MethodType.builder(JavaTypes.of(String.class)).params(JavaTypes.of(String.class), JavaTypes.of(Object[].class)).build();
+
+        MethodHandle handle = MethodInvokers.invoker(format, callSite);
+        check(!handle.isVarargsCollector(), "typed invoker for String.format is a varargs collector");
+        String exact = (String) handle.invokeExact("%s-%s", new Object[]{"a", "b"});
+        check("a-b".equals(exact), "String.format as String (String, Object[]) returned " + exact);
+        Object inexact = handle.invoke("%s", (Object) new Object[]{"c"});
+        check("c".equals(inexact), "inexact invoke of String.format returned " + inexact);
+
+        Object spread = MethodInvokers.invoke(format, null, "%s+%s", new Object[]{"d", "e"});
+        check("d+e".equals(spread), "spread invoke of String.format returned " + spread);
+        check(!MethodInvokers.invoker(format).isVarargsCollector(), "spread invoker for String.format is a varargs collector");
+    }
+
+    static int sum(List<Integer> values) {
+        int sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static void rejects(Method method, MethodType callSite) {
+        try {
+            MethodInvokers.invoker(method, callSite);
+            throw new AssertionError(method + " accepted " + callSite);
+        } catch (IllegalArgumentException expected) {
+
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+}
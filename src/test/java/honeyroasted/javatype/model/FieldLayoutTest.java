@@ -0,0 +1,55 @@
+package honeyroasted.javatype.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FieldLayoutTest {
+
+    public static void main(String[] args) {
+        declarationOrder();
+        stableAcrossLookups();
+        System.out.println("FieldLayout tests passed");
+    }
+
+    private static void declarationOrder() {
+        List<String> expected = Arrays.asList("Base.zeta", "Base.alpha", "Sub.mid", "Sub.alpha", "Sub.beta");
+        check(describe(FieldLayout.of(Sub.class)).equals(expected), "Sub laid out as " + describe(FieldLayout.of(Sub.class)));
+        check(FieldLayout.of(Sub.class).getSlot("alpha").get().getDeclaringClass() == Sub.class, "alpha did not resolve to the most derived field");
+    }
+
+    private static void stableAcrossLookups() {
+        List<String> first = describe(FieldLayout.of(Sub.class));
+        FieldLayout.clearCache();
+        List<String> second = describe(FieldLayout.of(Sub.class));
+        check(first.equals(second), "Sub layout changed from " + first + " to " + second);
+    }
+
+    private static List<String> describe(FieldLayout layout) {
+        List<String> names = new ArrayList<>();
+        for (FieldLayout.Slot slot : layout.getSlots()) {
+            check(layout.getSlot(slot.getIndex()) == slot, "Slot " + slot + " is not at its index");
+            names.add(slot.getDeclaringClass().getSimpleName() + "." + slot.getName());
+        }
+        return names;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static class Base {
+        int zeta;
+        static int ignored;
+        String alpha;
+    }
+
+    static class Sub extends Base {
+        long mid;
+        String alpha;
+        Object beta;
+    }
+
+}
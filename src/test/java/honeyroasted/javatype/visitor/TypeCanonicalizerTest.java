@@ -0,0 +1,90 @@
+package honeyroasted.javatype.visitor;
+
+import honeyroasted.javatype.JavaTypes;
+import honeyroasted.javatype.MethodType;
+import honeyroasted.javatype.TypeParser;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class TypeCanonicalizerTest {
+
+    public static void main(String[] args) throws Exception {
+        TypeCanonicalizer canonicalizer = new TypeCanonicalizer();
+
+        MethodType m = canonicalizer.canonicalize(method(Shadowing.class, "m"));
+        MethodType n = canonicalizer.canonicalize(method(Shadowing.class, "n"));
+        check(!m.equals(n), "<X> m(X, T0) and <X> n(X, X) canonicalized equal: " + m.getSignature());
+        check(!m.getSignature().equals(n.getSignature()), "<X> m(X, T0) and <X> n(X, X) share signature " + m.getSignature());
+
+        MethodType p = canonicalizer.canonicalize(method(Prefixed.class, "m"));
+        MethodType q = canonicalizer.canonicalize(method(Prefixed.class, "n"));
+        check(!p.equals(q), "<X> m(X, $T0) and <X> n(X, X) canonicalized equal: " + p.getSignature());
+        check(!p.getSignature().equals(q.getSignature()), "<X> m(X, $T0) and <X> n(X, X) share signature " + p.getSignature());
+
+        MethodType a = canonicalizer.canonicalize(method(Alpha.class, "a"));
+        MethodType b = canonicalizer.canonicalize(method(Alpha.class, "b"));
+        check(a.equals(b), "alpha-equivalent methods differ: " + a + " vs " + b);
+        check(a.hashCode() == b.hashCode(), "alpha-equivalent methods hash differently");
+
+        MethodType c = canonicalizer.canonicalize(method(Alpha.class, "c"));
+        check(!a.equals(c), "methods with different bounds canonicalized equal: " + a + " vs " + c);
+
+        for (MethodType type : new MethodType[]{m, n, p, q, a, b, c}) {
+            MethodType parsed = TypeParser.parseMethod(type.getSignature(), TypeCanonicalizerTest.class.getClassLoader());
+            check(parsed.equals(type), "signature " + type.getSignature() + " parsed to " + parsed.getSignature());
+        }
+
+        System.out.println("TypeCanonicalizer tests passed");
+    }
+
+    private static MethodType method(Class<?> cls, String name) {
+        for (java.lang.reflect.Method method : cls.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return JavaTypes.of(method);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    static class Shadowing<T0> {
+        <X> void m(X a, T0 b) {
+
+        }
+
+        <X> void n(X a, X b) {
+
+        }
+    }
+
+    static class Prefixed<$T0> {
+        <X> void m(X a, $T0 b) {
+
+        }
+
+        <X> void n(X a, X b) {
+
+        }
+    }
+
+    static class Alpha {
+        <A extends Number, B extends List<A>> A a(B list, A fallback) {
+            return fallback;
+        }
+
+        <Q extends Number, R extends List<Q>> Q b(R list, Q fallback) {
+            return fallback;
+        }
+
+        <A extends Serializable, B extends List<A>> A c(B list, A fallback) {
+            return fallback;
+        }
+    }
+
+}